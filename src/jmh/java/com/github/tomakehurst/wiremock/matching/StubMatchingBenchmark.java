@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.matching;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+
+import com.github.tomakehurst.wiremock.http.ImmutableRequest;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.store.InMemoryStubMappingStore;
+import com.github.tomakehurst.wiremock.store.StubMappingStore;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Matches a request against a store in which every stub has to be evaluated, because each one
+ * differs only by a header. Run with {@code ./gradlew jmh} and compare gc.alloc.rate.norm, the
+ * bytes allocated per request, between revisions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StubMatchingBenchmark {
+
+  private static final String STUB_ID_HEADER = "X-Stub-Id";
+
+  @Param({"1000", "10000"})
+  public int stubCount;
+
+  private StubMappingStore store;
+  private Request requestMatchingOldestStub;
+  private Request requestMatchingNoStub;
+
+  @Setup
+  public void setup() {
+    store = new InMemoryStubMappingStore();
+    for (int i = 0; i < stubCount; i++) {
+      store.add(
+          get(anyUrl()).withHeader(STUB_ID_HEADER, equalTo("stub-" + i)).willReturn(ok()).build());
+    }
+
+    requestMatchingOldestStub = requestWithStubId("stub-0");
+    requestMatchingNoStub = requestWithStubId("no-such-stub");
+  }
+
+  @Benchmark
+  public Optional<StubMapping> matchOldestStub() {
+    return findFirstMatch(requestMatchingOldestStub);
+  }
+
+  @Benchmark
+  public Optional<StubMapping> matchNoStub() {
+    return findFirstMatch(requestMatchingNoStub);
+  }
+
+  private Optional<StubMapping> findFirstMatch(Request request) {
+    return store
+        .findAllMatchingRequest(request, Collections.emptyMap(), subEvent -> {})
+        .findFirst();
+  }
+
+  private static Request requestWithStubId(String stubId) {
+    return ImmutableRequest.create()
+        .withAbsoluteUrl("http://localhost:8080/things/1")
+        .withMethod(RequestMethod.GET)
+        .withHeader(STUB_ID_HEADER, stubId)
+        .build();
+  }
+}
@@ -43,6 +43,7 @@ import com.github.tomakehurst.wiremock.recording.RecordingStatusResult;
 import com.github.tomakehurst.wiremock.recording.SnapshotRecordResult;
 import com.github.tomakehurst.wiremock.standalone.MappingsLoader;
 import com.github.tomakehurst.wiremock.store.files.FileSourceBlobStore;
+import com.github.tomakehurst.wiremock.stubbing.MatchDecisionCache;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.stubbing.StubImport;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
@@ -516,6 +517,10 @@ public class WireMockServer implements Container, Stubbing, Admin {
     return options;
   }
 
+  public MatchDecisionCache getMatchDecisionCache() {
+    return wireMockApp.getMatchDecisionCache();
+  }
+
   @Override
   public void shutdownServer() {
     shutdown();
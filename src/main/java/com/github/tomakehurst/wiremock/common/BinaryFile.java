@@ -37,7 +37,7 @@ public class BinaryFile implements InputStreamSource {
     }
   }
 
-  protected URI getUri() {
+  public URI getUri() {
     return uri;
   }
 
@@ -39,6 +39,9 @@ public class ContentTypes {
   public static final String LOCATION = "Location";
   public static final String AUTHORIZATION = "Authorization";
   public static final String ACCEPT = "Accept";
+  public static final String ACCEPT_ENCODING = "Accept-Encoding";
+  public static final String VARY = "Vary";
+  public static final String ETAG = "ETag";
   public static final String COOKIE = "Cookie";
   public static final String APPLICATION_JSON = "application/json";
 
@@ -15,8 +15,24 @@
  */
 package com.github.tomakehurst.wiremock.common;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 public interface InputStreamSource {
   InputStream getStream();
+
+  /** The number of bytes in the stream if that is known without reading it, otherwise -1. */
+  default long length() {
+    return -1;
+  }
+
+  /** Writes the whole stream out, which sources held in memory or in files can do directly. */
+  default void writeTo(OutputStream out) throws IOException {
+    try (InputStream stream = getStream()) {
+      if (stream != null) {
+        stream.transferTo(out);
+      }
+    }
+  }
 }
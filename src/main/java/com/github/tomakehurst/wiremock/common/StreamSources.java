@@ -15,11 +15,23 @@
  */
 package com.github.tomakehurst.wiremock.common;
 
+import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
+
 import com.github.tomakehurst.wiremock.admin.NotFoundException;
 import com.github.tomakehurst.wiremock.store.BlobStore;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
 
 public class StreamSources {
   private StreamSources() {}
@@ -32,6 +44,10 @@ public class StreamSources {
     return new ByteArrayInputStreamSource(bytes);
   }
 
+  public static InputStreamSource forFile(final Path path) {
+    return new FileInputStreamSource(path);
+  }
+
   public static InputStreamSource forBlobStoreItem(BlobStore blobStore, String key) {
     return () ->
         blobStore
@@ -58,6 +74,98 @@ public class StreamSources {
     public InputStream getStream() {
       return bytes == null ? null : new ByteArrayInputStream(bytes);
     }
+
+    /** Writes the bytes straight to the stream, without going through an input stream. */
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+      if (bytes != null) {
+        out.write(bytes);
+      }
+    }
+
+    @Override
+    public long length() {
+      return bytes == null ? -1 : bytes.length;
+    }
+  }
+
+  /**
+   * A file on the default file system. Its size is known without reading it, and it can be written
+   * to a channel through a reused direct buffer, so that its contents never pass through the heap.
+   */
+  public static class FileInputStreamSource implements InputStreamSource {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final ThreadLocal<ByteBuffer> BUFFER =
+        ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_SIZE));
+
+    private final Path path;
+
+    public FileInputStreamSource(Path path) {
+      this.path = path;
+    }
+
+    @Override
+    public InputStream getStream() {
+      try {
+        return Files.newInputStream(path);
+      } catch (NoSuchFileException e) {
+        throw new NotFoundException("File not found: " + path);
+      } catch (IOException e) {
+        return throwUnchecked(e, InputStream.class);
+      }
+    }
+
+    /**
+     * Identifies the current contents of the file by its modification time and size, or returns
+     * null if the file cannot be read.
+     */
+    public Object version() {
+      try {
+        final BasicFileAttributes attributes =
+            Files.readAttributes(path, BasicFileAttributes.class);
+        return List.of(attributes.lastModifiedTime(), attributes.size());
+      } catch (IOException e) {
+        return null;
+      }
+    }
+
+    /** The size of the file, or -1 if it cannot be read. */
+    @Override
+    public long length() {
+      try {
+        return Files.size(path);
+      } catch (IOException e) {
+        return -1;
+      }
+    }
+
+    /**
+     * Writes the file to the stream, through a direct buffer if the stream is also a channel, and
+     * otherwise through the stream.
+     */
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+      if (!(out instanceof WritableByteChannel)) {
+        try (InputStream stream = getStream()) {
+          stream.transferTo(out);
+        }
+        return;
+      }
+
+      final WritableByteChannel target = (WritableByteChannel) out;
+      final ByteBuffer buffer = BUFFER.get();
+      try (FileChannel channel = FileChannel.open(path)) {
+        buffer.clear();
+        while (channel.read(buffer) >= 0 || buffer.position() > 0) {
+          buffer.flip();
+          target.write(buffer);
+          buffer.compact();
+        }
+      } catch (NoSuchFileException e) {
+        throw new NotFoundException("File not found: " + path);
+      }
+    }
   }
 
   public static InputStreamSource empty() {
@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A definite JSON path, made only of property names and array indexes such as {@code $.header.type}
+ * or {@code $['items'][0].id}, that is followed through a document with a streaming parser, reading
+ * no further than the value it leads to.
+ *
+ * <p>Only values that JsonPath would render the same way are returned: strings, booleans and
+ * integers. For anything else, or if the path leads nowhere or the document cannot be read
+ * strictly, the answer is left to a full evaluation. The rest of the document is still read, though
+ * not kept, so that one with repeated property names or anything after its root value is left to a
+ * full evaluation too.
+ */
+public class StreamingJsonPath {
+
+  private static final JsonFactory JSON_FACTORY =
+      JsonFactory.builder().enable(StreamReadFeature.STRICT_DUPLICATE_DETECTION).build();
+
+  private static final Pattern SEGMENT =
+      Pattern.compile(
+          "\\.([A-Za-z_][A-Za-z0-9_]*)"
+              + "|\\['([^'\\\\,*]+)'\\]"
+              + "|\\[\"([^\"\\\\,*]+)\"\\]"
+              + "|\\[(\\d+)\\]");
+
+  private final List<Object> segments;
+
+  private StreamingJsonPath(List<Object> segments) {
+    this.segments = segments;
+  }
+
+  /** The expression as a definite path, or null if it is anything more than that. */
+  public static StreamingJsonPath compile(String expression) {
+    if (expression == null || !expression.startsWith("$") || expression.length() == 1) {
+      return null;
+    }
+
+    final List<Object> segments = new ArrayList<>();
+    final Matcher matcher = SEGMENT.matcher(expression);
+    int position = 1;
+    while (position < expression.length()) {
+      if (!matcher.find(position) || matcher.start() != position) {
+        return null;
+      }
+
+      if (matcher.group(4) != null) {
+        try {
+          segments.add(Integer.parseInt(matcher.group(4)));
+        } catch (NumberFormatException e) {
+          return null;
+        }
+      } else {
+        segments.add(
+            matcher.group(1) != null
+                ? matcher.group(1)
+                : matcher.group(2) != null ? matcher.group(2) : matcher.group(3));
+      }
+      position = matcher.end();
+    }
+
+    return new StreamingJsonPath(segments);
+  }
+
+  /** The scalar value at the end of the path, as JsonPath renders it, or null if undecided. */
+  public String findScalar(String json) {
+    if (json == null) {
+      return null;
+    }
+
+    try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+      JsonToken token = parser.nextToken();
+      for (Object segment : segments) {
+        token =
+            segment instanceof Integer
+                ? findElement(parser, token, (Integer) segment)
+                : findProperty(parser, token, (String) segment);
+        if (token == null) {
+          return null;
+        }
+      }
+
+      final String scalar = render(parser, token);
+      return scalar != null && readsToTheEnd(parser) ? scalar : null;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private static String render(JsonParser parser, JsonToken token) throws IOException {
+    switch (token) {
+      case VALUE_STRING:
+        return parser.getText();
+      case VALUE_TRUE:
+      case VALUE_FALSE:
+        return String.valueOf(token == JsonToken.VALUE_TRUE);
+      case VALUE_NUMBER_INT:
+        return parser.getBigIntegerValue().toString();
+      default:
+        return null;
+    }
+  }
+
+  // Finishing the root value checks it for repeated property names, which throw
+  private static boolean readsToTheEnd(JsonParser parser) throws IOException {
+    while (!parser.getParsingContext().inRoot()) {
+      if (parser.nextToken() == null) {
+        return false;
+      }
+    }
+
+    return parser.nextToken() == null;
+  }
+
+  private static JsonToken findProperty(JsonParser parser, JsonToken token, String name)
+      throws IOException {
+    if (token != JsonToken.START_OBJECT) {
+      return null;
+    }
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      final boolean found = name.equals(parser.getCurrentName());
+      final JsonToken value = parser.nextToken();
+      if (found) {
+        return value;
+      }
+      parser.skipChildren();
+    }
+
+    return null;
+  }
+
+  private static JsonToken findElement(JsonParser parser, JsonToken token, int index)
+      throws IOException {
+    if (token != JsonToken.START_ARRAY) {
+      return null;
+    }
+
+    for (int i = 0; ; i++) {
+      final JsonToken element = parser.nextToken();
+      if (element == null || element == JsonToken.END_ARRAY) {
+        return null;
+      }
+      if (i == index) {
+        return element;
+      }
+      parser.skipChildren();
+    }
+  }
+}
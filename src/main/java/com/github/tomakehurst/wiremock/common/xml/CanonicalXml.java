@@ -0,0 +1,251 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common.xml;
+
+import static javax.xml.stream.XMLStreamConstants.*;
+
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * A canonical form of an XML document, read in a single StAX pass, such that two documents have
+ * equal canonical forms exactly when {@code equalToXml} would find no differences between them with
+ * placeholders and exempted comparisons turned off. Whitespace around text and attribute values,
+ * comments, attribute order and the order of differently named sibling elements are all ignored.
+ *
+ * <p>Documents using anything whose comparison is subtler than that, such as a DTD, CDATA sections,
+ * processing instructions, mixed content or namespaces, have no canonical form, and must be
+ * compared in full.
+ */
+public class CanonicalXml {
+
+  private static final Comparator<Fragment> BY_LOCAL_NAME =
+      Comparator.comparing(fragment -> fragment.localName);
+
+  private static final ThreadLocal<XMLInputFactory> INPUT_FACTORY =
+      ThreadLocal.withInitial(
+          () -> {
+            XMLInputFactory factory = XMLInputFactory.newFactory();
+            factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+            return factory;
+          });
+
+  private final String form;
+  private final int hash;
+
+  private CanonicalXml(String form) {
+    this.form = form;
+    this.hash = form.hashCode();
+  }
+
+  /** The canonical form of the document, or null if it has none or is not well formed. */
+  public static CanonicalXml of(String xml) {
+    if (xml == null) {
+      return null;
+    }
+
+    XMLStreamReader reader = null;
+    try {
+      reader = INPUT_FACTORY.get().createXMLStreamReader(new StringReader(xml));
+      final String form = canonicalise(reader);
+      return form != null ? new CanonicalXml(form) : null;
+    } catch (XMLStreamException | RuntimeException e) {
+      return null;
+    } finally {
+      close(reader);
+    }
+  }
+
+  private static String canonicalise(XMLStreamReader reader) throws XMLStreamException {
+    final Deque<Element> open = new ArrayDeque<>();
+    Fragment root = null;
+
+    while (reader.hasNext()) {
+      switch (reader.next()) {
+        case START_ELEMENT:
+          final Element element = Element.start(reader);
+          if (element == null) {
+            return null;
+          }
+          open.push(element);
+          break;
+        case END_ELEMENT:
+          final Fragment fragment = open.pop().end();
+          if (fragment == null) {
+            return null;
+          }
+          if (open.isEmpty()) {
+            root = fragment;
+          } else if (!open.peek().addChild(fragment)) {
+            return null;
+          }
+          break;
+        case CHARACTERS:
+        case SPACE:
+          if (!open.isEmpty() && !open.peek().addText(reader.getText())) {
+            return null;
+          }
+          break;
+        case COMMENT:
+          if (!open.isEmpty()) {
+            open.peek().endTextRun();
+          }
+          break;
+        case START_DOCUMENT:
+        case END_DOCUMENT:
+          break;
+        default:
+          // CDATA, processing instructions, DTDs and entity references are compared in full
+          return null;
+      }
+    }
+
+    return root != null ? root.form : null;
+  }
+
+  private static void close(XMLStreamReader reader) {
+    if (reader != null) {
+      try {
+        reader.close();
+      } catch (XMLStreamException ignored) {
+        // Nothing left to release
+      }
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    CanonicalXml that = (CanonicalXml) o;
+    return hash == that.hash && form.equals(that.form);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return form;
+  }
+
+  private static class Fragment {
+    private final String localName;
+    private final String form;
+
+    private Fragment(String localName, String form) {
+      this.localName = localName;
+      this.form = form;
+    }
+  }
+
+  private static class Element {
+
+    private final String localName;
+    private final String header;
+    private final List<Fragment> children = new ArrayList<>();
+
+    private final StringBuilder text = new StringBuilder();
+    private int textRuns;
+    private boolean inTextRun;
+
+    private Element(String localName, String header) {
+      this.localName = localName;
+      this.header = header;
+    }
+
+    static Element start(XMLStreamReader reader) {
+      // Documents are compared without namespace awareness, so declarations, prefixes and
+      // qualified attributes are left to the full comparison
+      if (reader.getNamespaceCount() > 0 || !isNullOrEmpty(reader.getPrefix())) {
+        return null;
+      }
+
+      final Map<String, String> attributes = new TreeMap<>();
+      for (int i = 0; i < reader.getAttributeCount(); i++) {
+        if (!isNullOrEmpty(reader.getAttributePrefix(i))) {
+          return null;
+        }
+        attributes.put(
+            token(reader.getAttributeLocalName(i)), token(reader.getAttributeValue(i).trim()));
+      }
+
+      final StringBuilder header =
+          new StringBuilder("<").append(token(reader.getLocalName())).append(attributes.size());
+      attributes.forEach((name, value) -> header.append(name).append(value));
+
+      return new Element(reader.getLocalName(), header.toString());
+    }
+
+    boolean addChild(Fragment child) {
+      endTextRun();
+      children.add(child);
+      return textRuns == 0;
+    }
+
+    // Text either side of a comment may or may not end up in a single node, and text alongside
+    // elements is mixed content, so only a single run of text on its own is accepted
+    boolean addText(String characters) {
+      text.append(characters);
+      if (!inTextRun && !characters.trim().isEmpty()) {
+        inTextRun = true;
+        textRuns++;
+      }
+
+      return textRuns <= 1 && (textRuns == 0 || children.isEmpty());
+    }
+
+    void endTextRun() {
+      inTextRun = false;
+    }
+
+    Fragment end() {
+      if (textRuns > 0) {
+        return new Fragment(localName, header + "T" + token(text.toString().trim()) + ">");
+      }
+
+      children.sort(BY_LOCAL_NAME);
+      final StringBuilder form = new StringBuilder(header).append(children.size());
+      for (Fragment child : children) {
+        form.append(child.form);
+      }
+
+      return new Fragment(localName, form.append('>').toString());
+    }
+  }
+
+  private static String token(String value) {
+    return value.length() + ":" + value;
+  }
+
+  private static boolean isNullOrEmpty(String value) {
+    return value == null || value.isEmpty();
+  }
+}
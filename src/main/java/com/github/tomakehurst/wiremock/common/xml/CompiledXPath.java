@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common.xml;
+
+import static javax.xml.xpath.XPathConstants.NODESET;
+
+import com.github.tomakehurst.wiremock.common.ListOrSingle;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.xml.XMLConstants;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import org.w3c.dom.NodeList;
+import org.xmlunit.util.Convert;
+
+/**
+ * An XPath expression, along with any namespaces its prefixes refer to, compiled once per thread
+ * that evaluates it rather than on every evaluation. A malformed expression is only reported, as an
+ * {@link XPathException}, when it is evaluated.
+ */
+public class CompiledXPath {
+
+  // Expressions evaluated through XmlDocument, such as those in response templates, keyed by the
+  // expression and its namespaces
+  private static final Cache<List<Object>, CompiledXPath> SHARED =
+      CacheBuilder.newBuilder().maximumSize(1000).build();
+
+  private final String expression;
+  private final Map<String, String> namespaces;
+  private final ThreadLocal<XPathExpression> compiled;
+
+  public CompiledXPath(String expression, Map<String, String> namespaces) {
+    this.expression = expression;
+    this.namespaces = namespaces;
+    this.compiled = ThreadLocal.withInitial(this::compile);
+  }
+
+  /** The expression compiled once for every caller evaluating it with the same namespaces. */
+  public static CompiledXPath shared(String expression, Map<String, String> namespaces) {
+    final Map<String, String> namespacesCopy = namespaces != null ? Map.copyOf(namespaces) : null;
+    return SHARED
+        .asMap()
+        .computeIfAbsent(
+            Arrays.asList(expression, namespacesCopy),
+            key -> new CompiledXPath(expression, namespacesCopy));
+  }
+
+  public String getExpression() {
+    return expression;
+  }
+
+  public ListOrSingle<XmlNode> findNodes(XmlDocument document) {
+    try {
+      final NodeList nodeSet =
+          (NodeList)
+              compiled
+                  .get()
+                  .evaluate(
+                      namespaces != null
+                          ? document.getNamespaceAwareDocument()
+                          : document.getDocument(),
+                      NODESET);
+      return XmlNode.toListOrSingle(nodeSet);
+    } catch (XPathExpressionException e) {
+      throw XPathException.fromXPathException(e);
+    }
+  }
+
+  private XPathExpression compile() {
+    final XPath xPath = Xml.xPath();
+    xPath.reset();
+    if (namespaces != null) {
+      xPath.setNamespaceContext(Convert.toNamespaceContext(addStandardNamespaces(namespaces)));
+    }
+
+    try {
+      return xPath.compile(expression);
+    } catch (XPathExpressionException e) {
+      throw XPathException.fromXPathException(e);
+    }
+  }
+
+  private static Map<String, String> addStandardNamespaces(Map<String, String> namespaces) {
+    Map<String, String> result = new HashMap<String, String>();
+    for (String prefix : namespaces.keySet()) {
+      String uri = namespaces.get(prefix);
+      // according to the Javadocs only the constants defined in
+      // XMLConstants are allowed as prefixes for the following
+      // two URIs
+      if (!XMLConstants.XML_NS_URI.equals(uri)
+          && !XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(uri)) {
+        result.put(prefix, uri);
+      }
+    }
+    result.put(XMLConstants.XML_NS_PREFIX, XMLConstants.XML_NS_URI);
+    result.put(XMLConstants.XMLNS_ATTRIBUTE, XMLConstants.XMLNS_ATTRIBUTE_NS_URI);
+
+    return result;
+  }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common.xml;
+
+import static javax.xml.stream.XMLStreamConstants.*;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * A definite XPath expression, an absolute path of element names optionally ending in an attribute
+ * or {@code text()} such as {@code /Envelope/Header/Action}, that is followed through a document
+ * with StAX rather than a DOM. Names are compared by their local part, as they are when XPath is
+ * evaluated against the DOM that patterns without namespaces share.
+ *
+ * <p>Documents with a DTD, and text split by CDATA sections or entity references, are left to a
+ * full evaluation. Once the visitor has seen enough the rest of the document is still read, though
+ * no longer followed, so that a document that is not well-formed is left to a full evaluation too.
+ */
+public class StreamingXPath {
+
+  private static final String NAME = "[A-Za-z_][A-Za-z0-9_.-]*";
+  private static final Pattern DEFINITE_PATH =
+      Pattern.compile("(/" + NAME + ")+(/@" + NAME + "|/text\\(\\))?");
+  private static final String TEXT_STEP = "/text()";
+
+  private static final ThreadLocal<XMLInputFactory> INPUT_FACTORY =
+      ThreadLocal.withInitial(
+          () -> {
+            XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+            factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+            factory.setProperty(
+                "http://java.sun.com/xml/stream/properties/report-cdata-event", true);
+            return factory;
+          });
+
+  private final List<String> elementNames;
+  private final String attributeName;
+  private final boolean text;
+
+  private StreamingXPath(List<String> elementNames, String attributeName, boolean text) {
+    this.elementNames = elementNames;
+    this.attributeName = attributeName;
+    this.text = text;
+  }
+
+  /** The expression as a definite path, or null if it is anything more than that. */
+  public static StreamingXPath compile(String expression) {
+    if (expression == null || !DEFINITE_PATH.matcher(expression).matches()) {
+      return null;
+    }
+
+    final boolean text = expression.endsWith(TEXT_STEP);
+    String elementPath =
+        text ? expression.substring(0, expression.length() - TEXT_STEP.length()) : expression;
+    String attributeName = null;
+    final int attributeStart = elementPath.indexOf("/@");
+    if (attributeStart >= 0) {
+      attributeName = elementPath.substring(attributeStart + 2);
+      elementPath = elementPath.substring(0, attributeStart);
+    }
+
+    return new StreamingXPath(
+        Arrays.asList(elementPath.substring(1).split("/")), attributeName, text);
+  }
+
+  /** Whether the nodes selected are attributes or text, which have string values. */
+  public boolean selectsValues() {
+    return attributeName != null || text;
+  }
+
+  /**
+   * Passes each node selected to the visitor in document order, as its string value or as null for
+   * an element, until the visitor returns false.
+   *
+   * @return whether the expression was evaluated, or false if the document needs a full evaluation,
+   *     in which case anything already passed to the visitor should be disregarded
+   */
+  public boolean evaluate(String xml, Predicate<String> visitor) {
+    if (xml == null) {
+      return false;
+    }
+
+    XMLStreamReader reader = null;
+    try {
+      reader = INPUT_FACTORY.get().createXMLStreamReader(new StringReader(xml));
+      return evaluate(reader, visitor);
+    } catch (XMLStreamException | RuntimeException e) {
+      return false;
+    } finally {
+      close(reader);
+    }
+  }
+
+  private boolean evaluate(XMLStreamReader reader, Predicate<String> visitor)
+      throws XMLStreamException {
+    final int targetDepth = elementNames.size();
+    int depth = 0;
+    int matchedDepth = 0;
+    final StringBuilder textRun = new StringBuilder();
+
+    while (reader.hasNext()) {
+      final int event = reader.next();
+      final boolean inTarget = matchedDepth == targetDepth && depth == targetDepth;
+      switch (event) {
+        case START_ELEMENT:
+          if (inTarget && text && !visitText(textRun, visitor)) {
+            return readsToTheEnd(reader);
+          }
+          if (matchedDepth == depth
+              && depth < targetDepth
+              && elementNames.get(depth).equals(reader.getLocalName())) {
+            matchedDepth++;
+          }
+          depth++;
+          if (matchedDepth == targetDepth && depth == targetDepth) {
+            if (hasAmbiguousAttribute(reader)) {
+              return false;
+            }
+            if (!visitElement(reader, visitor)) {
+              return readsToTheEnd(reader);
+            }
+          }
+          break;
+        case END_ELEMENT:
+          if (inTarget && text && !visitText(textRun, visitor)) {
+            return readsToTheEnd(reader);
+          }
+          depth--;
+          matchedDepth = Math.min(matchedDepth, depth);
+          break;
+        case CHARACTERS:
+        case SPACE:
+          if (inTarget && text) {
+            textRun.append(reader.getText());
+          }
+          break;
+        case COMMENT:
+        case PROCESSING_INSTRUCTION:
+          if (inTarget && text && !visitText(textRun, visitor)) {
+            return readsToTheEnd(reader);
+          }
+          break;
+        case CDATA:
+        case ENTITY_REFERENCE:
+          if (inTarget && text) {
+            return false;
+          }
+          break;
+        case DTD:
+          return false;
+        default:
+          break;
+      }
+    }
+
+    return true;
+  }
+
+  private static boolean readsToTheEnd(XMLStreamReader reader) throws XMLStreamException {
+    while (reader.hasNext()) {
+      reader.next();
+    }
+
+    return true;
+  }
+
+  // Attributes sharing a local name may be ordered differently in the DOM, so leave it to decide
+  private boolean hasAmbiguousAttribute(XMLStreamReader reader) {
+    if (attributeName == null) {
+      return false;
+    }
+
+    int count = 0;
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      if (attributeName.equals(reader.getAttributeLocalName(i))) {
+        count++;
+      }
+    }
+
+    return count > 1;
+  }
+
+  private boolean visitElement(XMLStreamReader reader, Predicate<String> visitor) {
+    if (text) {
+      return true;
+    }
+    if (attributeName == null) {
+      return visitor.test(null);
+    }
+
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      if (attributeName.equals(reader.getAttributeLocalName(i))) {
+        return visitor.test(reader.getAttributeValue(i));
+      }
+    }
+
+    return true;
+  }
+
+  private static boolean visitText(StringBuilder textRun, Predicate<String> visitor) {
+    if (textRun.length() == 0) {
+      return true;
+    }
+
+    final String value = textRun.toString();
+    textRun.setLength(0);
+    return visitor.test(value);
+  }
+
+  private static void close(XMLStreamReader reader) {
+    if (reader != null) {
+      try {
+        reader.close();
+      } catch (XMLStreamException ignored) {
+        // Nothing left to release
+      }
+    }
+  }
+}
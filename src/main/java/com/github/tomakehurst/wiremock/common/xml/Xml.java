@@ -30,10 +30,12 @@ import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
+import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathFactory;
 import org.custommonkey.xmlunit.XMLUnit;
 import org.w3c.dom.Document;
@@ -44,6 +46,21 @@ import org.xml.sax.SAXException;
 
 public class Xml {
 
+  // None of these are thread safe, but they can all be reused, so each thread keeps its own
+  // A deferred DOM expands its nodes as they are first read, which is not safe while several
+  // threads read a document that patterns share, so documents are fully built when parsed
+  private static final String DEFER_NODE_EXPANSION =
+      "http://apache.org/xml/features/dom/defer-node-expansion";
+
+  private static final ThreadLocal<XPath> XPATH =
+      ThreadLocal.withInitial(() -> XPathFactory.newInstance().newXPath());
+
+  private static final ThreadLocal<Transformer> TRANSFORMER =
+      ThreadLocal.withInitial(Xml::newTransformer);
+
+  private static final ThreadLocal<DocumentBuilder> NAMESPACE_AWARE_DOCUMENT_BUILDER =
+      ThreadLocal.withInitial(Xml::newNamespaceAwareDocumentBuilder);
+
   private Xml() {
     // Hide constructor
   }
@@ -85,19 +102,36 @@ public class Xml {
 
   public static String prettyPrint(Document doc) {
     try {
-      TransformerFactory transformerFactory = createTransformerFactory();
-      Transformer transformer = transformerFactory.newTransformer();
-      transformer.setOutputProperty(INDENT, "yes");
-      transformer.setOutputProperty(OMIT_XML_DECLARATION, "yes");
       StreamResult result = new StreamResult(new StringWriter());
       DOMSource source = new DOMSource(doc);
-      transformer.transform(source, result);
+      transformer().transform(source, result);
       return result.getWriter().toString();
     } catch (Exception e) {
       return throwUnchecked(e, String.class);
     }
   }
 
+  /** This thread's XPath, which callers must reset before use. */
+  static XPath xPath() {
+    return XPATH.get();
+  }
+
+  /** This thread's transformer, which indents and omits the XML declaration. */
+  static Transformer transformer() {
+    return TRANSFORMER.get();
+  }
+
+  private static Transformer newTransformer() {
+    try {
+      Transformer transformer = createTransformerFactory().newTransformer();
+      transformer.setOutputProperty(INDENT, "yes");
+      transformer.setOutputProperty(OMIT_XML_DECLARATION, "yes");
+      return transformer;
+    } catch (TransformerConfigurationException e) {
+      return throwUnchecked(e, Transformer.class);
+    }
+  }
+
   private static TransformerFactory createTransformerFactory() {
     TransformerFactory transformerFactory;
     try {
@@ -143,10 +177,7 @@ public class Xml {
   private static String render(Node node) {
     try {
       StringWriter sw = new StringWriter();
-      Transformer transformer = TransformerFactory.newInstance().newTransformer();
-      transformer.setOutputProperty(OMIT_XML_DECLARATION, "yes");
-      transformer.setOutputProperty(INDENT, "yes");
-      transformer.transform(new DOMSource(node), new StreamResult(sw));
+      transformer().transform(new DOMSource(node), new StreamResult(sw));
       return sw.toString();
     } catch (TransformerException e) {
       return throwUnchecked(e, String.class);
@@ -170,6 +201,36 @@ public class Xml {
     }
   }
 
+  /**
+   * Parses with namespace awareness, which XPath expressions using namespace prefixes need, but
+   * which the DOM that is otherwise shared between patterns does not have.
+   */
+  static Document readNamespaceAware(InputSource source) {
+    try {
+      return NAMESPACE_AWARE_DOCUMENT_BUILDER.get().parse(source);
+    } catch (SAXException | IOException e) {
+      throw new XmlException(Errors.single(50, e.getMessage()));
+    }
+  }
+
+  private static DocumentBuilder newNamespaceAwareDocumentBuilder() {
+    try {
+      DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+      dbf.setNamespaceAware(true);
+      dbf.setFeature("http://xml.org/sax/features/validation", false);
+      dbf.setFeature("http://apache.org/xml/features/nonvalidating/load-dtd-grammar", false);
+      dbf.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+      dbf.setFeature(DEFER_NODE_EXPANSION, false);
+      DocumentBuilder documentBuilder = dbf.newDocumentBuilder();
+      documentBuilder.setEntityResolver(
+          (publicId, systemId) -> new InputSource(new StringReader("")));
+      documentBuilder.setErrorHandler(new SilentErrorHandler());
+      return documentBuilder;
+    } catch (ParserConfigurationException e) {
+      return throwUnchecked(e, DocumentBuilder.class);
+    }
+  }
+
   public static DocumentBuilderFactory newDocumentBuilderFactory() {
     return new SkipResolvingEntitiesDocumentBuilderFactory();
   }
@@ -187,6 +248,7 @@ public class Xml {
                   "http://apache.org/xml/features/nonvalidating/load-dtd-grammar", false);
               dbf.setFeature(
                   "http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+              dbf.setFeature(DEFER_NODE_EXPANSION, false);
               return dbf;
             } catch (ParserConfigurationException e) {
               return throwUnchecked(e, DocumentBuilderFactory.class);
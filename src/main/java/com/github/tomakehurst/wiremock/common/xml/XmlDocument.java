@@ -15,72 +15,42 @@
  */
 package com.github.tomakehurst.wiremock.common.xml;
 
-import static javax.xml.xpath.XPathConstants.NODESET;
-
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
-import java.util.HashMap;
 import java.util.Map;
-import javax.xml.XMLConstants;
-import javax.xml.namespace.NamespaceContext;
 import javax.xml.transform.dom.DOMSource;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathExpressionException;
 import org.w3c.dom.Document;
-import org.w3c.dom.NodeList;
 import org.xmlunit.util.Convert;
 
 public class XmlDocument extends XmlNode {
 
   private final Document document;
+  private Document namespaceAwareDocument;
 
   public XmlDocument(Document document) {
     super(document);
     this.document = document;
   }
 
+  public Document getDocument() {
+    return document;
+  }
+
   public ListOrSingle<XmlNode> findNodes(String xPathExpression) {
     return findNodes(xPathExpression, null);
   }
 
   public ListOrSingle<XmlNode> findNodes(String xPathExpression, Map<String, String> namespaces) {
-    try {
-      final XPath xPath = XPATH_CACHE.get();
-      xPath.reset();
-
-      NodeList nodeSet;
-      if (namespaces != null) {
-        Map<String, String> fullNamespaces = addStandardNamespaces(namespaces);
-        NamespaceContext namespaceContext = Convert.toNamespaceContext(fullNamespaces);
-        xPath.setNamespaceContext(namespaceContext);
-        nodeSet =
-            (NodeList)
-                xPath.evaluate(
-                    xPathExpression, Convert.toInputSource(new DOMSource(document)), NODESET);
-      } else {
-        nodeSet = (NodeList) xPath.evaluate(xPathExpression, document, NODESET);
-      }
-
-      return toListOrSingle(nodeSet);
-    } catch (XPathExpressionException e) {
-      throw XPathException.fromXPathException(e);
-    }
+    return CompiledXPath.shared(xPathExpression, namespaces).findNodes(this);
   }
 
-  private static Map<String, String> addStandardNamespaces(Map<String, String> namespaces) {
-    Map<String, String> result = new HashMap<String, String>();
-    for (String prefix : namespaces.keySet()) {
-      String uri = namespaces.get(prefix);
-      // according to the Javadocs only the constants defined in
-      // XMLConstants are allowed as prefixes for the following
-      // two URIs
-      if (!XMLConstants.XML_NS_URI.equals(uri)
-          && !XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(uri)) {
-        result.put(prefix, uri);
-      }
+  // The DOM is parsed without namespace awareness, so expressions using prefixes are evaluated
+  // against a namespace aware copy, made the first time one is needed
+  synchronized Document getNamespaceAwareDocument() {
+    if (namespaceAwareDocument == null) {
+      namespaceAwareDocument =
+          Xml.readNamespaceAware(Convert.toInputSource(new DOMSource(document)));
     }
-    result.put(XMLConstants.XML_NS_PREFIX, XMLConstants.XML_NS_URI);
-    result.put(XMLConstants.XMLNS_ATTRIBUTE, XMLConstants.XMLNS_ATTRIBUTE_NS_URI);
 
-    return result;
+    return namespaceAwareDocument;
   }
 }
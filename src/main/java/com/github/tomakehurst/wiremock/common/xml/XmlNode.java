@@ -16,8 +16,6 @@
 package com.github.tomakehurst.wiremock.common.xml;
 
 import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
-import static javax.xml.transform.OutputKeys.INDENT;
-import static javax.xml.transform.OutputKeys.OMIT_XML_DECLARATION;
 
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
 import java.io.StringWriter;
@@ -30,8 +28,6 @@ import javax.xml.transform.*;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.sax.SAXSource;
 import javax.xml.transform.stream.StreamResult;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathFactory;
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -39,45 +35,6 @@ import org.xml.sax.XMLReader;
 
 public class XmlNode {
 
-  protected static final InheritableThreadLocal<XPath> XPATH_CACHE =
-      new InheritableThreadLocal<>() {
-        @Override
-        protected XPath initialValue() {
-          final XPathFactory xPathfactory = XPathFactory.newInstance();
-          return xPathfactory.newXPath();
-        }
-      };
-
-  protected static final InheritableThreadLocal<Transformer> TRANSFORMER_CACHE =
-      new InheritableThreadLocal<>() {
-        @Override
-        protected Transformer initialValue() {
-          TransformerFactory transformerFactory;
-          try {
-            // Optimization to get likely transformerFactory directly, rather than going through
-            // FactoryFinder#find
-            transformerFactory =
-                (TransformerFactory)
-                    Class.forName(
-                            "com.sun.org.apache.xalan.internal.xsltc.trax.TransformerFactoryImpl")
-                        .getDeclaredConstructor()
-                        .newInstance();
-          } catch (Exception e) {
-            transformerFactory = TransformerFactory.newInstance();
-          }
-          transformerFactory.setAttribute("indent-number", 2);
-
-          try {
-            Transformer transformer = transformerFactory.newTransformer();
-            transformer.setOutputProperty(INDENT, "yes");
-            transformer.setOutputProperty(OMIT_XML_DECLARATION, "yes");
-            return transformer;
-          } catch (TransformerConfigurationException e) {
-            return throwUnchecked(e, Transformer.class);
-          }
-        }
-      };
-
   private static final Class<XMLReader> DOM2SAX_XMLREADER_CLASS = getDom2SaxAvailability();
 
   private static Class<XMLReader> getDom2SaxAvailability() {
@@ -90,14 +47,10 @@ public class XmlNode {
   }
 
   private final Node domNode;
-  private final Map<String, String> attributes;
+  private Map<String, String> attributes;
 
   public XmlNode(Node domNode) {
     this.domNode = domNode;
-    attributes =
-        domNode.hasAttributes()
-            ? convertAttributeMap(domNode.getAttributes())
-            : Collections.emptyMap();
   }
 
   private static Map<String, String> convertAttributeMap(NamedNodeMap namedNodeMap) {
@@ -110,7 +63,14 @@ public class XmlNode {
     return Collections.unmodifiableMap(map);
   }
 
-  public Map<String, String> getAttributes() {
+  public synchronized Map<String, String> getAttributes() {
+    if (attributes == null) {
+      attributes =
+          domNode.hasAttributes()
+              ? convertAttributeMap(domNode.getAttributes())
+              : Collections.emptyMap();
+    }
+
     return attributes;
   }
 
@@ -147,7 +107,7 @@ public class XmlNode {
 
   private String render() {
     try {
-      Transformer transformer = TRANSFORMER_CACHE.get();
+      Transformer transformer = Xml.transformer();
       StreamResult result = new StreamResult(new StringWriter());
       Source source = getSourceForTransform(domNode);
       transformer.transform(source, result);
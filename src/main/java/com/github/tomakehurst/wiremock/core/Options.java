@@ -138,6 +138,10 @@ public interface Options {
     return 1000;
   }
 
+  default long getMatchDecisionCacheSize() {
+    return 0;
+  }
+
   boolean getResponseTemplatingEnabled();
 
   boolean getResponseTemplatingGlobal();
@@ -113,7 +113,8 @@ public class WireMockApp implements StubServer, Admin {
             extensions.ofType(ResponseDefinitionTransformer.class),
             extensions.ofType(ResponseDefinitionTransformerV2.class),
             stores.getFilesBlobStore(),
-            List.copyOf(extensions.ofType(StubLifecycleListener.class).values()));
+            List.copyOf(extensions.ofType(StubLifecycleListener.class).values()),
+            options.getMatchDecisionCacheSize());
     nearMissCalculator = new NearMissCalculator(stubMappings, requestJournal, scenarios);
     recorder =
         new Recorder(this, extensions, stores.getFilesBlobStore(), stores.getRecorderStateStore());
@@ -510,6 +511,10 @@ public class WireMockApp implements StubServer, Admin {
     return extensions;
   }
 
+  public MatchDecisionCache getMatchDecisionCache() {
+    return stubMappings.getMatchDecisionCache();
+  }
+
   @Override
   public void shutdownServer() {
     stores.stop();
@@ -570,29 +575,71 @@ public class WireMockApp implements StubServer, Admin {
 
   @Override
   public void importStubs(StubImport stubImport) {
+    final StubImportBatch batch = planImport(stubImport);
+    stubMappings.importMappings(batch);
+
+    final List<StubMapping> toSave = new ArrayList<>();
+    for (StubImportBatch.Edit edit : batch.getEdited()) {
+      toSave.add(edit.getUpdated());
+    }
+    toSave.addAll(batch.getAdded());
+    toSave.removeIf(stubMapping -> !stubMapping.shouldBePersisted());
+    if (!toSave.isEmpty()) {
+      mappingsSaver.save(toSave);
+    }
+
+    for (StubMapping removed : batch.getRemoved()) {
+      if (removed.shouldBePersisted()) {
+        mappingsSaver.remove(removed);
+      }
+    }
+  }
+
+  // Walks the import from last to first so that the first stub listed ends up matched first, and
+  // where a stub appears more than once the earliest listing is the one kept when overwriting.
+  private StubImportBatch planImport(StubImport stubImport) {
     List<StubMapping> mappings = stubImport.getMappings();
     StubImport.Options importOptions =
         getFirstNonNull(stubImport.getImportOptions(), StubImport.Options.DEFAULTS);
+    boolean overwrite =
+        importOptions.getDuplicatePolicy() == StubImport.Options.DuplicatePolicy.OVERWRITE;
+
+    final List<StubMapping> added = new ArrayList<>();
+    final Map<UUID, Integer> addedPositions = new HashMap<>();
+    final Map<UUID, StubImportBatch.Edit> edited = new LinkedHashMap<>();
 
     for (int i = mappings.size() - 1; i >= 0; i--) {
       StubMapping mapping = mappings.get(i);
-      if (mapping.getId() != null && getStubMapping(mapping.getId()).isPresent()) {
-        if (importOptions.getDuplicatePolicy() == StubImport.Options.DuplicatePolicy.OVERWRITE) {
-          editStubMapping(mapping);
+      Optional<StubMapping> existing =
+          mapping.getId() != null ? stubMappings.get(mapping.getId()) : Optional.empty();
+
+      if (mapping.getId() != null && addedPositions.containsKey(mapping.getId())) {
+        if (overwrite) {
+          added.set(addedPositions.get(mapping.getId()), mapping);
+        }
+      } else if (existing.isPresent()) {
+        if (overwrite) {
+          edited.put(mapping.getId(), new StubImportBatch.Edit(existing.get(), mapping));
         }
       } else {
-        addStubMapping(mapping);
+        if (mapping.getId() == null) {
+          mapping.setId(UUID.randomUUID());
+        }
+        addedPositions.put(mapping.getId(), added.size());
+        added.add(mapping);
       }
     }
 
+    List<StubMapping> removed = Collections.emptyList();
     if (importOptions.getDeleteAllNotInImport()) {
-      List<UUID> ids = mappings.stream().map(StubMapping::getId).collect(Collectors.toList());
-      for (StubMapping mapping : listAllStubMappings().getMappings()) {
-        if (!ids.contains(mapping.getId())) {
-          removeStubMapping(mapping);
-        }
-      }
+      Set<UUID> ids = mappings.stream().map(StubMapping::getId).collect(Collectors.toSet());
+      removed =
+          stubMappings.getAll().stream()
+              .filter(mapping -> !ids.contains(mapping.getId()))
+              .collect(Collectors.toList());
     }
+
+    return new StubImportBatch(added, new ArrayList<>(edited.values()), removed);
   }
 
   public Set<String> getLoadedExtensionNames() {
@@ -49,6 +49,8 @@ import com.github.tomakehurst.wiremock.standalone.JsonFileMappingsSource;
 import com.github.tomakehurst.wiremock.standalone.MappingsLoader;
 import com.github.tomakehurst.wiremock.standalone.MappingsSource;
 import com.github.tomakehurst.wiremock.store.DefaultStores;
+import com.github.tomakehurst.wiremock.store.InMemoryStubMappingStore;
+import com.github.tomakehurst.wiremock.store.SnapshotStubMappingStore;
 import com.github.tomakehurst.wiremock.store.Stores;
 import com.github.tomakehurst.wiremock.verification.notmatched.NotMatchedRenderer;
 import com.github.tomakehurst.wiremock.verification.notmatched.PlainTextStubNotMatchedRenderer;
@@ -90,6 +92,8 @@ public class WireMockConfiguration implements Options {
   private ProxySettings proxySettings = ProxySettings.NO_PROXY;
   private FileSource filesRoot = new SingleRootFileSource("src/test/resources");
   private Stores stores;
+  private boolean snapshotStubStore = false;
+  private boolean parallelStubMatching = false;
   private MappingsSource mappingsSource;
   private FilenameMaker filenameMaker;
 
@@ -142,6 +146,8 @@ public class WireMockConfiguration implements Options {
   private boolean globalTemplating = false;
   private Set<String> permittedSystemKeys = null;
   private Long maxTemplateCacheEntries = null;
+  private long matchDecisionCacheSize = 0;
+  private long bodyFileCacheSize = 0;
   private boolean templateEscapingDisabled = true;
 
   private MappingsSource getMappingsSource() {
@@ -325,6 +331,25 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  /**
+   * Keep stubs in a {@link SnapshotStubMappingStore}, which suits suites that add and remove many
+   * stubs. Has no effect if stores have been supplied via {@link #withStores(Stores)}.
+   */
+  public WireMockConfiguration snapshotStubStore(boolean enabled) {
+    this.snapshotStubStore = enabled;
+    return this;
+  }
+
+  /**
+   * Evaluate large sets of candidate stubs in parallel on the common ForkJoin pool, which can help
+   * when there are very many stubs. The stub served is the same either way. Has no effect if stores
+   * have been supplied via {@link #withStores(Stores)} or the snapshot store is in use.
+   */
+  public WireMockConfiguration parallelStubMatching(boolean enabled) {
+    this.parallelStubMatching = enabled;
+    return this;
+  }
+
   public WireMockConfiguration withRootDirectory(String path) {
     this.filesRoot = new SingleRootFileSource(path);
     return this;
@@ -551,6 +576,24 @@ public class WireMockConfiguration implements Options {
     return this;
   }
 
+  /**
+   * Remember which stub matched up to this many distinct requests, for as long as no stub depends
+   * on anything beyond the method, URL, headers and cookies. Zero, the default, disables this.
+   */
+  public WireMockConfiguration withMatchDecisionCacheSize(long matchDecisionCacheSize) {
+    this.matchDecisionCacheSize = matchDecisionCacheSize;
+    return this;
+  }
+
+  /**
+   * Keep the contents of up to this many bytes of body files in memory, re-reading a file when it
+   * changes on disk. Zero, the default, disables this.
+   */
+  public WireMockConfiguration withBodyFileCacheSize(long bodyFileCacheSize) {
+    this.bodyFileCacheSize = bodyFileCacheSize;
+    return this;
+  }
+
   @Override
   public int portNumber() {
     return portNumber;
@@ -607,7 +650,13 @@ public class WireMockConfiguration implements Options {
   @Override
   public Stores getStores() {
     if (stores == null) {
-      stores = new DefaultStores(filesRoot);
+      stores =
+          new DefaultStores(
+              filesRoot,
+              snapshotStubStore
+                  ? new SnapshotStubMappingStore()
+                  : new InMemoryStubMappingStore(parallelStubMatching),
+              bodyFileCacheSize);
     }
 
     return stores;
@@ -806,6 +855,11 @@ public class WireMockConfiguration implements Options {
     return maxTemplateCacheEntries;
   }
 
+  @Override
+  public long getMatchDecisionCacheSize() {
+    return matchDecisionCacheSize;
+  }
+
   @Override
   public Set<String> getTemplatePermittedSystemKeys() {
     return permittedSystemKeys;
@@ -15,6 +15,7 @@
  */
 package com.github.tomakehurst.wiremock.extension;
 
+import com.github.tomakehurst.wiremock.stubbing.StubImportBatch;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 
 public interface StubLifecycleListener extends Extension {
@@ -34,4 +35,25 @@ public interface StubLifecycleListener extends Extension {
   default void beforeStubsReset() {}
 
   default void afterStubsReset() {}
+
+  /**
+   * Called once before any of the changes an import makes are applied. Throwing prevents the whole
+   * import. By default the per-stub callbacks are called for each change.
+   */
+  default void beforeStubsImported(StubImportBatch batch) {
+    for (StubImportBatch.Edit edit : batch.getEdited()) {
+      beforeStubEdited(edit.getExisting(), edit.getUpdated());
+    }
+    batch.getAdded().forEach(this::beforeStubCreated);
+    batch.getRemoved().forEach(this::beforeStubRemoved);
+  }
+
+  /** Called once after all of the changes an import makes have been applied. */
+  default void afterStubsImported(StubImportBatch batch) {
+    for (StubImportBatch.Edit edit : batch.getEdited()) {
+      afterStubEdited(edit.getExisting(), edit.getUpdated());
+    }
+    batch.getAdded().forEach(this::afterStubCreated);
+    batch.getRemoved().forEach(this::afterStubRemoved);
+  }
 }
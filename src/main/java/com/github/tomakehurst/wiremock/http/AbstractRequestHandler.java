@@ -24,6 +24,7 @@ import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 public abstract class AbstractRequestHandler implements RequestHandler, RequestEventSource {
 
@@ -75,7 +76,10 @@ public abstract class AbstractRequestHandler implements RequestHandler, RequestE
     ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
     responseDefinition.setOriginalRequest(processedRequest);
     Response response = responseRenderer.render(serveEvent);
-    response = Response.Builder.like(response).protocol(request.getProtocol()).build();
+    if (!Objects.equals(request.getProtocol(), response.getProtocol())) {
+      response = Response.Builder.like(response).protocol(request.getProtocol()).build();
+    }
+    response = response.withBodyReadOnce(dataTruncationSettings.getMaxResponseBodySize());
     serveEvent = serveEvent.complete(response, dataTruncationSettings);
 
     if (logRequests()) {
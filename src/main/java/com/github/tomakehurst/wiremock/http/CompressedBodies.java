@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http;
+
+import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
+
+import com.github.tomakehurst.wiremock.common.Gzip;
+import com.github.tomakehurst.wiremock.common.InputStreamSource;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * The gzip and deflate encodings of a response body that is served over and over, each built the
+ * first time a client asks for it and then kept for as long as the body is.
+ */
+public class CompressedBodies {
+
+  public static final String GZIP = "gzip";
+  public static final String DEFLATE = "deflate";
+
+  private final InputStreamSource body;
+  private final Supplier<byte[]> gzipped;
+  private final Supplier<byte[]> deflated;
+
+  public CompressedBodies(InputStreamSource body) {
+    this.body = body;
+    this.gzipped = Suppliers.memoize(() -> Gzip.gzip(read()));
+    this.deflated = Suppliers.memoize(() -> deflate(read()));
+  }
+
+  /** The body in the given encoding, which must be {@link #GZIP} or {@link #DEFLATE}. */
+  public byte[] encodedAs(String encoding) {
+    return GZIP.equals(encoding) ? gzipped.get() : deflated.get();
+  }
+
+  /**
+   * Whichever of gzip and deflate an Accept-Encoding header gives the higher weight, preferring
+   * gzip when they are equal, or null if it accepts neither.
+   */
+  public static String preferredEncoding(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return null;
+    }
+
+    double gzipWeight = 0;
+    double deflateWeight = 0;
+    for (String coding : acceptEncoding.split(",")) {
+      final String[] parts = coding.split(";");
+      final String name = parts[0].trim().toLowerCase(Locale.ROOT);
+      if (GZIP.equals(name)) {
+        gzipWeight = weightOf(parts);
+      } else if (DEFLATE.equals(name)) {
+        deflateWeight = weightOf(parts);
+      }
+    }
+
+    if (gzipWeight > 0 && gzipWeight >= deflateWeight) {
+      return GZIP;
+    }
+
+    return deflateWeight > 0 ? DEFLATE : null;
+  }
+
+  private static double weightOf(String[] codingParts) {
+    for (int i = 1; i < codingParts.length; i++) {
+      final String parameter = codingParts[i].trim();
+      if (parameter.startsWith("q=")) {
+        try {
+          return Double.parseDouble(parameter.substring(2));
+        } catch (NumberFormatException e) {
+          return 0;
+        }
+      }
+    }
+
+    return 1;
+  }
+
+  private byte[] read() {
+    try (InputStream stream = body.getStream()) {
+      return stream == null ? new byte[0] : stream.readAllBytes();
+    } catch (IOException e) {
+      return throwUnchecked(e, byte[].class);
+    }
+  }
+
+  private static byte[] deflate(byte[] content) {
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DeflaterOutputStream deflaterOutputStream = new DeflaterOutputStream(bytes);
+      deflaterOutputStream.write(content);
+      deflaterOutputStream.close();
+      return bytes.toByteArray();
+    } catch (IOException e) {
+      return throwUnchecked(e, byte[].class);
+    }
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http;
+
+import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.xml.CanonicalXml;
+import com.github.tomakehurst.wiremock.common.xml.Xml;
+import com.github.tomakehurst.wiremock.common.xml.XmlDocument;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import java.nio.charset.Charset;
+import java.util.function.Supplier;
+
+/**
+ * A body as seen by body patterns, along with the forms it has been parsed into. Each form is
+ * parsed at most once, the first time a pattern asks for it, and a failure to parse is remembered
+ * and rethrown to every later caller, so however many stubs have JSON or XML body patterns the body
+ * is only parsed once per request.
+ *
+ * <p>A request body is only decoded into a string when a pattern needs one, since patterns that
+ * compare bytes can work on a UTF-8 body as it is.
+ */
+public class ParsedBody {
+
+  /**
+   * Bodies at least this many characters long are read by streaming, where a pattern can, rather
+   * than parsed in full. Below it, a parse shared between all the patterns costs less.
+   */
+  public static final int STREAMING_THRESHOLD = 256 * 1024;
+
+  private final byte[] utf8Bytes;
+  private Supplier<String> decoder;
+  private String value;
+
+  private Parsed<JsonNode> jsonTree;
+  private Parsed<DocumentContext> jsonPathDocument;
+  private Parsed<XmlDocument> xmlDocument;
+  private Parsed<CanonicalXml> canonicalXml;
+
+  private ParsedBody(String value) {
+    this.utf8Bytes = null;
+    this.value = value;
+  }
+
+  private ParsedBody(byte[] utf8Bytes, Supplier<String> decoder) {
+    this.utf8Bytes = utf8Bytes;
+    this.decoder = decoder;
+  }
+
+  public static ParsedBody of(String value) {
+    return new ParsedBody(value);
+  }
+
+  /** The body of the request, with an empty body treated as absent as body patterns expect. */
+  public static ParsedBody fromRequest(Request request) {
+    final byte[] body = request.getBody();
+    if (body == null || body.length == 0) {
+      return new ParsedBody(null);
+    }
+
+    return new ParsedBody(isUtf8(request) ? body : null, request::getBodyAsString);
+  }
+
+  private static boolean isUtf8(Request request) {
+    final ContentTypeHeader contentTypeHeader = request.contentTypeHeader();
+    try {
+      final Charset charset = contentTypeHeader != null ? contentTypeHeader.charset() : UTF_8;
+      return UTF_8.equals(charset);
+    } catch (IllegalArgumentException e) {
+      // An unknown charset is left for decoding to report
+      return false;
+    }
+  }
+
+  public synchronized String asString() {
+    if (decoder != null) {
+      value = decoder.get();
+      decoder = null;
+    }
+
+    return value;
+  }
+
+  /** The undecoded body, if it is known to be UTF-8 encoded, otherwise null. */
+  public byte[] asUtf8Bytes() {
+    return utf8Bytes;
+  }
+
+  /**
+   * Whether a pattern able to follow its path by streaming should do so rather than ask for the
+   * JSON path document. That is only worthwhile for a large body no pattern has parsed yet.
+   */
+  public synchronized boolean prefersStreamingToJsonPathDocument() {
+    return jsonPathDocument == null && isLarge();
+  }
+
+  /**
+   * Whether a pattern able to follow its path by streaming should do so rather than ask for the XML
+   * document. That is only worthwhile for a large body no pattern has parsed yet.
+   */
+  public synchronized boolean prefersStreamingToXmlDocument() {
+    return xmlDocument == null && isLarge();
+  }
+
+  private boolean isLarge() {
+    final String string = asString();
+    return string != null && string.length() >= STREAMING_THRESHOLD;
+  }
+
+  public synchronized JsonNode asJsonTree() {
+    if (jsonTree == null) {
+      jsonTree = Parsed.attempt(() -> Json.read(asString(), JsonNode.class));
+    }
+
+    return jsonTree.get();
+  }
+
+  public synchronized DocumentContext asJsonPathDocument() {
+    if (jsonPathDocument == null) {
+      jsonPathDocument = Parsed.attempt(() -> JsonPath.parse(asString()));
+    }
+
+    return jsonPathDocument.get();
+  }
+
+  public synchronized XmlDocument asXmlDocument() {
+    if (xmlDocument == null) {
+      xmlDocument = Parsed.attempt(() -> Xml.parse(asString()));
+    }
+
+    return xmlDocument.get();
+  }
+
+  /** The canonical form of the body as XML, or null if it has none. */
+  public synchronized CanonicalXml asCanonicalXml() {
+    if (canonicalXml == null) {
+      canonicalXml = Parsed.attempt(() -> CanonicalXml.of(asString()));
+    }
+
+    return canonicalXml.get();
+  }
+
+  private static class Parsed<T> {
+    private final T value;
+    private final Exception exception;
+
+    private Parsed(T value, Exception exception) {
+      this.value = value;
+      this.exception = exception;
+    }
+
+    static <T> Parsed<T> attempt(Supplier<T> parser) {
+      try {
+        return new Parsed<>(parser.get(), null);
+      } catch (Exception e) {
+        return new Parsed<>(null, e);
+      }
+    }
+
+    T get() {
+      if (exception != null) {
+        throwUnchecked(exception);
+      }
+
+      return value;
+    }
+  }
+}
@@ -15,6 +15,7 @@
  */
 package com.github.tomakehurst.wiremock.http;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
@@ -72,6 +73,11 @@ public interface Request {
 
   String getBodyAsBase64();
 
+  @JsonIgnore
+  default ParsedBody getParsedBody() {
+    return ParsedBody.fromRequest(this);
+  }
+
   boolean isMultipart();
 
   Collection<Part> getParts();
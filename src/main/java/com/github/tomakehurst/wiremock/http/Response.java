@@ -23,6 +23,7 @@ import static java.net.HttpURLConnection.HTTP_OK;
 import com.github.tomakehurst.wiremock.common.*;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Optional;
 
 public class Response {
@@ -30,6 +31,7 @@ public class Response {
   private final int status;
   private final String statusMessage;
   private final InputStreamSource bodyStreamSource;
+  private final boolean inlineBody;
   private final HttpHeaders headers;
   private final boolean configured;
   private final Fault fault;
@@ -37,18 +39,21 @@ public class Response {
   private final long initialDelay;
   private final ChunkedDribbleDelay chunkedDribbleDelay;
   private final String protocol;
+  private final CompressedBodies compressedBodies;
 
   public static Response notConfigured() {
     return new Response(
         HTTP_NOT_FOUND,
         null,
         StreamSources.empty(),
+        true,
         noHeaders(),
         false,
         null,
         0,
         null,
         false,
+        null,
         null);
   }
 
@@ -60,16 +65,19 @@ public class Response {
       int status,
       String statusMessage,
       InputStreamSource bodyStreamSource,
+      boolean inlineBody,
       HttpHeaders headers,
       boolean configured,
       Fault fault,
       long initialDelay,
       ChunkedDribbleDelay chunkedDribbleDelay,
       boolean fromProxy,
-      String protocol) {
+      String protocol,
+      CompressedBodies compressedBodies) {
     this.status = status;
     this.statusMessage = statusMessage;
     this.bodyStreamSource = bodyStreamSource;
+    this.inlineBody = inlineBody;
     this.headers = headers;
     this.configured = configured;
     this.fault = fault;
@@ -77,6 +85,7 @@ public class Response {
     this.chunkedDribbleDelay = chunkedDribbleDelay;
     this.fromProxy = fromProxy;
     this.protocol = protocol;
+    this.compressedBodies = compressedBodies;
   }
 
   public int getStatus() {
@@ -116,9 +125,49 @@ public class Response {
     return bodyStreamSource == null ? null : bodyStreamSource.getStream();
   }
 
+  /**
+   * This response with its body read into memory, when it would otherwise be read in full once to
+   * record it and again to send it, so that its source is read only once for recording, measuring
+   * and sending. A body that is already in memory, or too large to be recorded in full, is left
+   * where it is.
+   */
+  public Response withBodyReadOnce(Limit recordedSizeLimit) {
+    if (bodyStreamSource == null
+        || bodyStreamSource instanceof StreamSources.ByteArrayInputStreamSource
+        || !fitsWithin(recordedSizeLimit)) {
+      return this;
+    }
+
+    final Builder builder =
+        Builder.like(this).body(getBody()).protocol(protocol).compressedBodies(compressedBodies);
+    builder.inlineBody = inlineBody;
+    return builder.build();
+  }
+
+  private boolean fitsWithin(Limit sizeLimit) {
+    if (sizeLimit == null || sizeLimit.isUnlimited()) {
+      return true;
+    }
+
+    final long length = getBodyLength();
+    return length >= 0 && length <= sizeLimit.getValue();
+  }
+
+  /** Writes the body to the stream, without copying it when it is held in memory or in a file. */
+  public void writeBodyTo(OutputStream out) throws IOException {
+    if (bodyStreamSource != null) {
+      bodyStreamSource.writeTo(out);
+    }
+  }
+
+  /** The length of the body if it is known without reading it, otherwise -1. */
+  public long getBodyLength() {
+    return bodyStreamSource == null ? -1 : bodyStreamSource.length();
+  }
+
+  /** Whether the body was given in memory, rather than read from a file or elsewhere. */
   public boolean hasInlineBody() {
-    return StreamSources.ByteArrayInputStreamSource.class.isAssignableFrom(
-        bodyStreamSource.getClass());
+    return inlineBody;
   }
 
   public HttpHeaders getHeaders() {
@@ -149,6 +198,15 @@ public class Response {
     return fromProxy;
   }
 
+  public String getProtocol() {
+    return protocol;
+  }
+
+  /** Compressed encodings of the body, when it is served often enough to keep them, or null. */
+  public CompressedBodies getCompressedBodies() {
+    return compressedBodies;
+  }
+
   @Override
   public String toString() {
     return protocol + " " + status + "\n" + headers;
@@ -160,6 +218,7 @@ public class Response {
     private byte[] bodyBytes;
     private String bodyString;
     private InputStreamSource bodyStream;
+    private Boolean inlineBody;
     private HttpHeaders headers = new HttpHeaders();
     private boolean configured = true;
     private Fault fault;
@@ -167,12 +226,15 @@ public class Response {
     private long initialDelay;
     private ChunkedDribbleDelay chunkedDribbleDelay;
     private String protocol;
+    private CompressedBodies compressedBodies;
 
+    // Compressed bodies are left behind, since the copy's body may well be changed
     public static Builder like(Response response) {
       Builder responseBuilder = new Builder();
       responseBuilder.status = response.getStatus();
       responseBuilder.statusMessage = response.getStatusMessage();
       responseBuilder.bodyStream = response.bodyStreamSource;
+      responseBuilder.inlineBody = response.inlineBody;
       responseBuilder.headers = response.getHeaders();
       responseBuilder.configured = response.wasConfigured();
       responseBuilder.fault = response.getFault();
@@ -200,6 +262,7 @@ public class Response {
       this.bodyBytes = body;
       this.bodyString = null;
       this.bodyStream = null;
+      this.inlineBody = null;
       return this;
     }
 
@@ -207,6 +270,7 @@ public class Response {
       this.bodyBytes = null;
       this.bodyString = body;
       this.bodyStream = null;
+      this.inlineBody = null;
       return this;
     }
 
@@ -214,6 +278,16 @@ public class Response {
       this.bodyBytes = null;
       this.bodyString = null;
       this.bodyStream = bodySource;
+      this.inlineBody = null;
+      return this;
+    }
+
+    /**
+     * Whether the body counts as given in memory. Unless set, that is inferred from how the body
+     * was given, so a body file served from a cache of bytes must be marked as not inline.
+     */
+    public Builder inlineBody(boolean inlineBody) {
+      this.inlineBody = inlineBody;
       return this;
     }
 
@@ -301,18 +375,27 @@ public class Response {
           status,
           statusMessage,
           bodyStream,
+          inlineBody != null
+              ? inlineBody
+              : bodyStream instanceof StreamSources.ByteArrayInputStreamSource,
           headers,
           configured,
           fault,
           initialDelay,
           chunkedDribbleDelay,
           fromProxy,
-          protocol);
+          protocol,
+          compressedBodies);
     }
 
     public Builder protocol(final String protocol) {
       this.protocol = protocol;
       return this;
     }
+
+    public Builder compressedBodies(CompressedBodies compressedBodies) {
+      this.compressedBodies = compressedBodies;
+      return this;
+    }
   }
 }
@@ -20,18 +20,29 @@ import static com.github.tomakehurst.wiremock.http.Response.response;
 
 import com.github.tomakehurst.wiremock.common.FileSource;
 import com.github.tomakehurst.wiremock.common.InputStreamSource;
+import com.github.tomakehurst.wiremock.common.StreamSources.ByteArrayInputStreamSource;
+import com.github.tomakehurst.wiremock.common.StreamSources.FileInputStreamSource;
 import com.github.tomakehurst.wiremock.extension.ResponseTransformer;
 import com.github.tomakehurst.wiremock.extension.ResponseTransformerV2;
 import com.github.tomakehurst.wiremock.global.GlobalSettings;
 import com.github.tomakehurst.wiremock.store.BlobStore;
+import com.github.tomakehurst.wiremock.store.CachingBlobStore;
 import com.github.tomakehurst.wiremock.store.SettingsStore;
 import com.github.tomakehurst.wiremock.store.files.BlobStoreFileSource;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
 
 public class StubResponseRenderer implements ResponseRenderer {
 
+  // The bytes of body files kept compressed when they are not cached by a CachingBlobStore, whose
+  // budget is otherwise used
+  private static final long DEFAULT_COMPRESSED_BODY_FILES_MAX_BYTES = 16 * 1024 * 1024;
+
   private final BlobStore filesBlobStore;
   private final FileSource filesFileSource;
   private final SettingsStore settingsStore;
@@ -39,6 +50,12 @@ public class StubResponseRenderer implements ResponseRenderer {
   private final List<ResponseTransformer> responseTransformers;
   private final List<ResponseTransformerV2> v2ResponseTransformers;
 
+  // Keyed by identity, and dropped along with the stub
+  private final Cache<StubMapping, StaticResponse> staticResponses =
+      CacheBuilder.newBuilder().weakKeys().build();
+  private final long compressedBodyFilesMaxBytes;
+  private final Cache<StubMapping, CompressedBodyFile> compressedBodyFiles;
+
   public StubResponseRenderer(
       BlobStore filesBlobStore,
       SettingsStore settingsStore,
@@ -52,6 +69,19 @@ public class StubResponseRenderer implements ResponseRenderer {
     this.v2ResponseTransformers = v2ResponseTransformers;
 
     filesFileSource = new BlobStoreFileSource(filesBlobStore);
+
+    compressedBodyFilesMaxBytes =
+        filesBlobStore instanceof CachingBlobStore
+            ? ((CachingBlobStore) filesBlobStore).getMaxBytes()
+            : DEFAULT_COMPRESSED_BODY_FILES_MAX_BYTES;
+    compressedBodyFiles =
+        CacheBuilder.newBuilder()
+            .weakKeys()
+            // One segment, so that the whole budget is available to each body file
+            .concurrencyLevel(1)
+            .maximumWeight(compressedBodyFilesMaxBytes)
+            .weigher((StubMapping stubMapping, CompressedBodyFile file) -> file.weight)
+            .build();
   }
 
   @Override
@@ -61,6 +91,11 @@ public class StubResponseRenderer implements ResponseRenderer {
       return Response.notConfigured();
     }
 
+    Response staticResponse = staticResponseFor(serveEvent);
+    if (staticResponse != null) {
+      return staticResponse;
+    }
+
     Response response = buildResponse(serveEvent);
 
     response =
@@ -75,6 +110,73 @@ public class StubResponseRenderer implements ResponseRenderer {
     return response;
   }
 
+  /**
+   * The response to a stub whose response depends on nothing but its definition, rendered the first
+   * time the stub is served and reused until it is edited. Returns null for any other response.
+   */
+  private Response staticResponseFor(ServeEvent serveEvent) {
+    final StubMapping stubMapping = serveEvent.getStubMapping();
+    final ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
+    if (stubMapping == null
+        || !isStatic(responseDefinition)
+        || !responseDefinition.equals(stubMapping.getResponse())) {
+      return null;
+    }
+
+    final String protocol = serveEvent.getRequest().getProtocol();
+    StaticResponse staticResponse = staticResponses.getIfPresent(stubMapping);
+    if (staticResponse == null || !staticResponse.isFor(stubMapping, protocol)) {
+      final Response rendered = renderDirectly(serveEvent).build();
+      final Response response =
+          Response.Builder.like(rendered)
+              .protocol(protocol)
+              .compressedBodies(new CompressedBodies(rendered::getBodyStream))
+              .build();
+      staticResponse = new StaticResponse(stubMapping, response);
+      staticResponses.put(stubMapping, staticResponse);
+    }
+
+    return staticResponse.response;
+  }
+
+  private boolean isStatic(ResponseDefinition responseDefinition) {
+    if (responseDefinition.specifiesBodyFile()
+        || responseDefinition.getFixedDelayMilliseconds() != null
+        || responseDefinition.getDelayDistribution() != null) {
+      return false;
+    }
+
+    GlobalSettings settings = settingsStore.get();
+    if (settings.getFixedDelay() != null || settings.getDelayDistribution() != null) {
+      return false;
+    }
+
+    return isServedAsDefined(responseDefinition);
+  }
+
+  /** Whether the body sent is the one in the definition, inline or in a file, as it stands. */
+  @SuppressWarnings("deprecation") // global v1 response transformers are still applied
+  private boolean isServedAsDefined(ResponseDefinition responseDefinition) {
+    if (responseDefinition.isProxyResponse()
+        || (responseDefinition.getTransformers() != null
+            && !responseDefinition.getTransformers().isEmpty())) {
+      return false;
+    }
+
+    for (ResponseTransformer transformer : responseTransformers) {
+      if (transformer.applyGlobally()) {
+        return false;
+      }
+    }
+    for (ResponseTransformerV2 transformer : v2ResponseTransformers) {
+      if (transformer.applyGlobally()) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
   private Response buildResponse(ServeEvent serveEvent) {
     if (serveEvent.getResponseDefinition().isProxyResponse()) {
       return proxyResponseRenderer.render(serveEvent);
@@ -155,11 +257,109 @@ public class StubResponseRenderer implements ResponseRenderer {
     if (responseDefinition.specifiesBodyFile()) {
       final InputStreamSource bodyStreamSource =
           filesBlobStore.getStreamSource(responseDefinition.getBodyFileName());
-      responseBuilder.body(bodyStreamSource);
+      responseBuilder.body(bodyStreamSource).inlineBody(false);
+
+      final CompressedBodies compressedBodies = compressedBodiesFor(serveEvent, bodyStreamSource);
+      if (compressedBodies != null) {
+        responseBuilder
+            .compressedBodies(compressedBodies)
+            .protocol(serveEvent.getRequest().getProtocol());
+      }
     } else if (responseDefinition.specifiesBodyContent()) {
       responseBuilder.body(responseDefinition.getByteBody());
     }
 
     return responseBuilder;
   }
+
+  /**
+   * The compressed encodings of a stub's body file, kept until the stub is edited, the file's
+   * contents change or the budget for them runs out, or null if the file is transformed, its
+   * contents cannot be told apart or it is too large for the budget.
+   */
+  private CompressedBodies compressedBodiesFor(
+      ServeEvent serveEvent, InputStreamSource bodyStreamSource) {
+    final StubMapping stubMapping = serveEvent.getStubMapping();
+    final ResponseDefinition responseDefinition = serveEvent.getResponseDefinition();
+    if (stubMapping == null
+        || !isServedAsDefined(responseDefinition)
+        || !responseDefinition.equals(stubMapping.getResponse())) {
+      return null;
+    }
+
+    final Object version = versionOf(bodyStreamSource);
+    final long weight = CompressedBodyFile.weigh(bodyStreamSource);
+    if (version == null || weight < 0 || weight > compressedBodyFilesMaxBytes) {
+      return null;
+    }
+
+    CompressedBodyFile compressedBodyFile = compressedBodyFiles.getIfPresent(stubMapping);
+    if (compressedBodyFile == null || !compressedBodyFile.isFor(stubMapping, version)) {
+      compressedBodyFile =
+          new CompressedBodyFile(
+              stubMapping, version, (int) weight, new CompressedBodies(bodyStreamSource));
+      compressedBodyFiles.put(stubMapping, compressedBodyFile);
+    }
+
+    return compressedBodyFile.compressedBodies;
+  }
+
+  // A file's modification time and size, or for a body held in memory by a caching blob store,
+  // the source itself, since the store hands out a new one only when the contents change
+  private Object versionOf(InputStreamSource bodyStreamSource) {
+    if (bodyStreamSource instanceof FileInputStreamSource) {
+      return ((FileInputStreamSource) bodyStreamSource).version();
+    }
+
+    return filesBlobStore instanceof CachingBlobStore
+            && bodyStreamSource instanceof ByteArrayInputStreamSource
+        ? bodyStreamSource
+        : null;
+  }
+
+  private static class CompressedBodyFile {
+    private final ResponseDefinition responseDefinition;
+    private final Object version;
+    private final int weight;
+    private final CompressedBodies compressedBodies;
+
+    CompressedBodyFile(
+        StubMapping stubMapping, Object version, int weight, CompressedBodies compressedBodies) {
+      this.responseDefinition = stubMapping.getResponse();
+      this.version = version;
+      this.weight = weight;
+      this.compressedBodies = compressedBodies;
+    }
+
+    // Neither encoding is much larger than the body, so both together are taken as twice its size
+    static long weigh(InputStreamSource body) {
+      final long length = body.length();
+      return length < 0 || length > Integer.MAX_VALUE / 2 ? -1 : 2 * length;
+    }
+
+    boolean isFor(StubMapping stubMapping, Object version) {
+      return responseDefinition == stubMapping.getResponse() && this.version.equals(version);
+    }
+  }
+
+  private static class StaticResponse {
+    private final ResponseDefinition responseDefinition;
+    private final UUID stubId;
+    private final String stubName;
+    private final Response response;
+
+    StaticResponse(StubMapping stubMapping, Response response) {
+      this.responseDefinition = stubMapping.getResponse();
+      this.stubId = stubMapping.getId();
+      this.stubName = stubMapping.getName();
+      this.response = response;
+    }
+
+    boolean isFor(StubMapping stubMapping, String protocol) {
+      return responseDefinition == stubMapping.getResponse()
+          && Objects.equals(stubId, stubMapping.getId())
+          && Objects.equals(stubName, stubMapping.getName())
+          && Objects.equals(protocol, response.getProtocol());
+    }
+  }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.jetty;
+
+import java.util.Arrays;
+import java.util.Locale;
+import org.eclipse.jetty.http.HttpField;
+import org.eclipse.jetty.http.MimeTypes;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
+
+/**
+ * Which responses Jetty's {@link GzipHandler} would compress, so that a body that has already been
+ * compressed can be sent in their place, and the handler left to pass it through untouched.
+ */
+public class GzipRules {
+
+  public static final String KEY = GzipRules.class.getName();
+
+  private final GzipHandler gzipHandler;
+
+  public GzipRules(GzipHandler gzipHandler) {
+    this.gzipHandler = gzipHandler;
+  }
+
+  /** The Vary header the handler adds to the responses it compresses, or null if none. */
+  public String getVary() {
+    final HttpField vary = gzipHandler.getVary();
+    return vary != null ? vary.getValue() : null;
+  }
+
+  /**
+   * @param contentLength the Content-Length the response will declare, or -1 if it will be chunked,
+   *     in which case the handler compresses it however small it is
+   */
+  public boolean wouldCompress(String method, int status, String contentType, long contentLength) {
+    if (status < 200 || status == 204 || status == 205 || status >= 300) {
+      return false;
+    }
+
+    if ((contentLength >= 0 && contentLength < gzipHandler.getMinGzipSize())
+        || !Arrays.asList(gzipHandler.getIncludedMethods()).contains(method)) {
+      return false;
+    }
+
+    return contentType == null
+        || gzipHandler.isMimeTypeGzipable(
+            MimeTypes.getContentTypeWithoutCharset(contentType).toLowerCase(Locale.ROOT));
+  }
+}
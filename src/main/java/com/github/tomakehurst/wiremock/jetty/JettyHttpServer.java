@@ -166,6 +166,7 @@ public abstract class JettyHttpServer implements HttpServer {
       gzipHandler.addIncludedMethods(GZIPPABLE_METHODS);
       gzipHandler.setHandler(mockServiceContext);
       gzipHandler.setVary(null);
+      mockServiceContext.setAttribute(GzipRules.KEY, new GzipRules(gzipHandler));
       handlers.addHandler(gzipHandler);
     } catch (Exception e) {
       throwUnchecked(e);
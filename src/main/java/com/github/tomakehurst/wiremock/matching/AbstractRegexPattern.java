@@ -17,19 +17,47 @@ package com.github.tomakehurst.wiremock.matching;
 
 import static java.util.regex.Pattern.DOTALL;
 
+import java.util.List;
 import java.util.regex.Pattern;
 
 public abstract class AbstractRegexPattern extends StringValuePattern {
 
   protected final Pattern pattern;
 
+  // Worked out from the regex up front, so that values which cannot possibly match are turned
+  // away with a length check and a few indexOf calls instead of running the regex over them
+  private final String requiredPrefix;
+  private final List<String> requiredLiterals;
+  private final int minimumLength;
+
   protected AbstractRegexPattern(String regex) {
     super(regex);
     pattern = Pattern.compile(regex, DOTALL);
+    requiredPrefix = RegexLiterals.literalPrefix(regex);
+    requiredLiterals = RegexLiterals.requiredLiterals(regex);
+    minimumLength = requiredLiterals.stream().mapToInt(String::length).sum();
   }
 
   @Override
   public MatchResult match(String value) {
-    return MatchResult.of(value != null && pattern.matcher(value).matches());
+    return MatchResult.of(value != null && couldMatch(value) && pattern.matcher(value).matches());
+  }
+
+  private boolean couldMatch(String value) {
+    if (value.length() < minimumLength || !value.startsWith(requiredPrefix)) {
+      return false;
+    }
+
+    // The literals appear one after another in every match, so each is searched for after the last
+    int from = 0;
+    for (String literal : requiredLiterals) {
+      final int index = value.indexOf(literal, from);
+      if (index == -1) {
+        return false;
+      }
+      from = index + literal.length();
+    }
+
+    return true;
   }
 }
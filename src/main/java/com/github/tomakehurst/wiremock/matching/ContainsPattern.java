@@ -16,11 +16,15 @@
 package com.github.tomakehurst.wiremock.matching;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.tomakehurst.wiremock.http.ParsedBody;
 
 public class ContainsPattern extends StringValuePattern {
 
+  private final Utf8Needle needle;
+
   public ContainsPattern(@JsonProperty("contains") String expectedValue) {
     super(expectedValue);
+    needle = Utf8Needle.of(expectedValue);
   }
 
   public String getContains() {
@@ -29,6 +33,17 @@ public class ContainsPattern extends StringValuePattern {
 
   @Override
   public MatchResult match(String value) {
-    return MatchResult.of(value != null && value.contains(expectedValue));
+    return MatchResult.of(
+        value != null && value.length() >= expectedValue.length() && value.contains(expectedValue));
+  }
+
+  @Override
+  public MatchResult matchBody(ParsedBody body) {
+    final byte[] bytes = body.asUtf8Bytes();
+    if (needle != null && bytes != null) {
+      return MatchResult.of(needle.isFoundIn(bytes));
+    }
+
+    return super.matchBody(body);
   }
 }
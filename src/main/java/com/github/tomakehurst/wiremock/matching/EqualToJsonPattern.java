@@ -21,7 +21,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.JsonException;
+import com.github.tomakehurst.wiremock.http.ParsedBody;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import net.javacrumbs.jsonunit.core.Configuration;
 import net.javacrumbs.jsonunit.core.Option;
 import net.javacrumbs.jsonunit.core.internal.Diff;
@@ -36,6 +39,9 @@ public class EqualToJsonPattern extends StringValuePattern {
   private final Boolean ignoreExtraElements;
   private final Boolean serializeAsString;
 
+  // Null when the expected document uses JsonUnit placeholders, which only JsonUnit can evaluate
+  private final StructuralJsonComparator comparator;
+
   public EqualToJsonPattern(
       @JsonProperty("equalToJson") String json,
       @JsonProperty("ignoreArrayOrder") Boolean ignoreArrayOrder,
@@ -45,6 +51,7 @@ public class EqualToJsonPattern extends StringValuePattern {
     this.ignoreArrayOrder = ignoreArrayOrder;
     this.ignoreExtraElements = ignoreExtraElements;
     this.serializeAsString = true;
+    this.comparator = comparatorFor(expected);
   }
 
   public EqualToJsonPattern(
@@ -54,54 +61,75 @@ public class EqualToJsonPattern extends StringValuePattern {
     this.ignoreArrayOrder = ignoreArrayOrder;
     this.ignoreExtraElements = ignoreExtraElements;
     this.serializeAsString = false;
+    this.comparator = comparatorFor(expected);
+  }
+
+  private StructuralJsonComparator comparatorFor(JsonNode expected) {
+    return StructuralJsonComparator.supports(expected)
+        ? new StructuralJsonComparator(
+            expected, shouldIgnoreArrayOrder(), shouldIgnoreExtraElements())
+        : null;
   }
 
   @Override
   public MatchResult match(String value) {
-    final CountingDiffListener diffListener = new CountingDiffListener();
-    Configuration diffConfig = Configuration.empty().withDifferenceListener(diffListener);
-
-    if (shouldIgnoreArrayOrder()) {
-      diffConfig = diffConfig.withOptions(Option.IGNORING_ARRAY_ORDER);
-    }
-
-    if (shouldIgnoreExtraElements()) {
-      diffConfig =
-          diffConfig.withOptions(Option.IGNORING_EXTRA_ARRAY_ITEMS, Option.IGNORING_EXTRA_FIELDS);
-    }
+    return matchBody(ParsedBody.of(value));
+  }
 
+  @Override
+  public MatchResult matchBody(ParsedBody body) {
     final JsonNode actual;
-    final Diff diff;
     try {
-      actual = Json.read(value, JsonNode.class);
-      diff =
-          Diff.create(
-              expected, // JsonUnit knows how to work with JsonNode
-              actual,
-              "",
-              "",
-              diffConfig);
+      actual = body.asJsonTree();
     } catch (JsonException je) {
       return MatchResult.noMatch(new SubEvent(JSON_ERROR, je.getErrors()));
     } catch (Exception e) {
       return MatchResult.noMatch(SubEvent.warning(e.getMessage()));
     }
 
+    // JsonUnit is only needed to work out how far apart the documents are
+    final CountingDiffListener diffListener = new CountingDiffListener();
+    final Supplier<Diff> diff = Suppliers.memoize(() -> diff(actual, diffListener));
+
     return new MatchResult() {
       @Override
       public boolean isExactMatch() {
-        return diff.similar();
+        if (comparator != null && actual != null) {
+          return comparator.matches(actual);
+        }
+
+        return diff.get().similar();
       }
 
       @Override
       public double getDistance() {
-        diff.similar();
+        diff.get().similar();
         double maxNodes = maxDeepSize(expected, actual);
         return diffListener.count / maxNodes;
       }
     };
   }
 
+  private Diff diff(JsonNode actual, DifferenceListener diffListener) {
+    Configuration diffConfig = Configuration.empty().withDifferenceListener(diffListener);
+
+    if (shouldIgnoreArrayOrder()) {
+      diffConfig = diffConfig.withOptions(Option.IGNORING_ARRAY_ORDER);
+    }
+
+    if (shouldIgnoreExtraElements()) {
+      diffConfig =
+          diffConfig.withOptions(Option.IGNORING_EXTRA_ARRAY_ITEMS, Option.IGNORING_EXTRA_FIELDS);
+    }
+
+    return Diff.create(
+        expected, // JsonUnit knows how to work with JsonNode
+        actual,
+        "",
+        "",
+        diffConfig);
+  }
+
   @JsonProperty("equalToJson")
   public Object getSerializedEqualToJson() {
     return serializeAsString ? getValue() : Json.read(getValue(), JsonNode.class);
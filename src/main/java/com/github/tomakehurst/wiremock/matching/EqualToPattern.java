@@ -18,17 +18,20 @@ package com.github.tomakehurst.wiremock.matching;
 import static com.github.tomakehurst.wiremock.common.Strings.normalisedLevenshteinDistance;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.tomakehurst.wiremock.http.ParsedBody;
 import java.util.Objects;
 
 public class EqualToPattern extends StringValuePattern {
 
   private final Boolean caseInsensitive;
+  private final Utf8Needle needle;
 
   public EqualToPattern(
       @JsonProperty("equalTo") String testValue,
       @JsonProperty("caseInsensitive") Boolean caseInsensitive) {
     super(testValue);
     this.caseInsensitive = caseInsensitive;
+    this.needle = shouldMatchCaseInsensitive() ? null : Utf8Needle.of(testValue);
   }
 
   public EqualToPattern(String expectedValue) {
@@ -45,6 +48,11 @@ public class EqualToPattern extends StringValuePattern {
 
   @Override
   public MatchResult match(final String value) {
+    // An identical value needs no distance working out, so share the exact match result
+    if (Objects.equals(expectedValue, value)) {
+      return MatchResult.exactMatch();
+    }
+
     return new MatchResult() {
       @Override
       public boolean isExactMatch() {
@@ -60,6 +68,31 @@ public class EqualToPattern extends StringValuePattern {
     };
   }
 
+  // Bodies are compared byte for byte, and only decoded if the distance of a miss is wanted
+  @Override
+  public MatchResult matchBody(ParsedBody body) {
+    final byte[] bytes = body.asUtf8Bytes();
+    if (needle == null || bytes == null) {
+      return super.matchBody(body);
+    }
+
+    if (needle.isEqualTo(bytes)) {
+      return MatchResult.exactMatch();
+    }
+
+    return new MatchResult() {
+      @Override
+      public boolean isExactMatch() {
+        return false;
+      }
+
+      @Override
+      public double getDistance() {
+        return normalisedLevenshteinDistance(expectedValue, body.asString());
+      }
+    };
+  }
+
   private boolean shouldMatchCaseInsensitive() {
     return caseInsensitive != null && caseInsensitive;
   }
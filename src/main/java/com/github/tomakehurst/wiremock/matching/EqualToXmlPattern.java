@@ -20,7 +20,10 @@ import static com.github.tomakehurst.wiremock.common.Strings.isNullOrEmpty;
 import static org.xmlunit.diff.ComparisonType.*;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.tomakehurst.wiremock.common.xml.CanonicalXml;
 import com.github.tomakehurst.wiremock.common.xml.Xml;
+import com.github.tomakehurst.wiremock.common.xml.XmlException;
+import com.github.tomakehurst.wiremock.http.ParsedBody;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -57,6 +60,7 @@ public class EqualToXmlPattern extends StringValuePattern {
   private final DifferenceEvaluator diffEvaluator;
   private final Set<ComparisonType> exemptedComparisons;
   private final Document expectedXmlDoc;
+  private final CanonicalXml expectedCanonicalXml;
 
   public EqualToXmlPattern(@JsonProperty("equalToXml") String expectedValue) {
     this(expectedValue, null, null, null, null);
@@ -87,6 +91,13 @@ public class EqualToXmlPattern extends StringValuePattern {
     } else {
       diffEvaluator = baseDifferenceEvaluator;
     }
+
+    // Placeholders and exempted comparisons loosen equality in ways only XMLUnit understands
+    expectedCanonicalXml =
+        (enablePlaceholders == null || !enablePlaceholders)
+                && (exemptedComparisons == null || exemptedComparisons.isEmpty())
+            ? CanonicalXml.of(expectedValue)
+            : null;
   }
 
   public String getEqualToXml() {
@@ -116,16 +127,30 @@ public class EqualToXmlPattern extends StringValuePattern {
 
   @Override
   public MatchResult match(final String value) {
+    return matchBody(ParsedBody.of(value));
+  }
+
+  @Override
+  public MatchResult matchBody(final ParsedBody body) {
+    final String value = body.asString();
     return new MatchResult() {
       @Override
       public boolean isExactMatch() {
         if (isNullOrEmpty(value)) {
           return false;
         }
+
+        if (expectedCanonicalXml != null) {
+          final CanonicalXml actualCanonicalXml = body.asCanonicalXml();
+          if (actualCanonicalXml != null) {
+            return expectedCanonicalXml.equals(actualCanonicalXml);
+          }
+        }
+
         try {
           Diff diff =
               DiffBuilder.compare(Input.from(expectedXmlDoc))
-                  .withTest(value)
+                  .withTest(testSource(body))
                   .withComparisonController(ComparisonControllers.StopWhenDifferent)
                   .ignoreWhitespace()
                   .ignoreComments()
@@ -162,8 +187,8 @@ public class EqualToXmlPattern extends StringValuePattern {
         Diff diff;
         try {
           diff =
-              DiffBuilder.compare(Input.from(expectedValue))
-                  .withTest(value)
+              DiffBuilder.compare(Input.from(expectedXmlDoc))
+                  .withTest(testSource(body))
                   .ignoreWhitespace()
                   .ignoreComments()
                   .withDifferenceEvaluator(diffEvaluator)
@@ -202,6 +227,16 @@ public class EqualToXmlPattern extends StringValuePattern {
     };
   }
 
+  // Compares against the body's shared DOM where it parses, otherwise hands XMLUnit the raw value
+  // so that it reports the parse failure as it always has
+  private static Object testSource(ParsedBody body) {
+    try {
+      return body.asXmlDocument().getDocument();
+    } catch (XmlException e) {
+      return body.asString();
+    }
+  }
+
   private static class IgnoreUncountedDifferenceEvaluator implements DifferenceEvaluator {
 
     private final Set<ComparisonType> finalCountedComparisons;
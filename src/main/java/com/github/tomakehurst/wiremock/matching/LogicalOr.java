@@ -16,7 +16,9 @@
 package com.github.tomakehurst.wiremock.matching;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.tomakehurst.wiremock.http.ParsedBody;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class LogicalOr extends AbstractLogicalMatcher {
@@ -40,8 +42,17 @@ public class LogicalOr extends AbstractLogicalMatcher {
 
   @Override
   public MatchResult match(String value) {
+    return matchOperands(matcher -> matcher.match(value));
+  }
+
+  @Override
+  public MatchResult matchBody(ParsedBody body) {
+    return matchOperands(matcher -> matcher.matchBody(body));
+  }
+
+  private MatchResult matchOperands(Function<StringValuePattern, MatchResult> match) {
     final List<MatchResult> matchResults =
-        operands.stream().map(matcher -> matcher.match(value)).collect(Collectors.toList());
+        operands.stream().map(match).collect(Collectors.toList());
 
     return new MatchResult() {
       @Override
@@ -16,40 +16,59 @@
 package com.github.tomakehurst.wiremock.matching;
 
 import static java.util.Arrays.asList;
-import static java.util.stream.Collectors.toUnmodifiableList;
+import static java.util.Collections.unmodifiableList;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Queue;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 public abstract class MatchResult implements Comparable<MatchResult> {
 
-  private final Queue<SubEvent> subEvents;
+  private static final MatchResult EXACT_MATCH = new EagerMatchResult(0);
+  private static final MatchResult NO_MATCH = new EagerMatchResult(1);
 
-  public MatchResult() {
-    this.subEvents = new LinkedBlockingQueue<>();
-  }
+  // Only allocated once a sub-event is actually appended, as most results never have any
+  private volatile Queue<SubEvent> subEvents;
+
+  public MatchResult() {}
 
   public MatchResult(List<SubEvent> subEvents) {
-    this.subEvents = new LinkedBlockingQueue<>(subEvents);
+    if (!subEvents.isEmpty()) {
+      this.subEvents = new ConcurrentLinkedQueue<>(subEvents);
+    }
   }
 
   protected void appendSubEvent(SubEvent subEvent) {
-    subEvents.add(subEvent);
+    Queue<SubEvent> queue = subEvents;
+    if (queue == null) {
+      synchronized (this) {
+        if (subEvents == null) {
+          subEvents = new ConcurrentLinkedQueue<>();
+        }
+        queue = subEvents;
+      }
+    }
+
+    queue.add(subEvent);
   }
 
   public List<SubEvent> getSubEvents() {
-    return subEvents.stream().collect(toUnmodifiableList());
+    final Queue<SubEvent> queue = subEvents;
+    return queue == null ? List.of() : List.copyOf(queue);
   }
 
   @JsonCreator
   public static MatchResult partialMatch(@JsonProperty("distance") double distance) {
-    return new EagerMatchResult(distance);
+    if (distance == 0) {
+      return EXACT_MATCH;
+    }
+
+    return distance == 1 ? NO_MATCH : new EagerMatchResult(distance);
   }
 
   public static MatchResult exactMatch(SubEvent... subEvents) {
@@ -57,7 +76,7 @@ public abstract class MatchResult implements Comparable<MatchResult> {
   }
 
   public static MatchResult exactMatch(List<SubEvent> subEvents) {
-    return new EagerMatchResult(0, subEvents);
+    return subEvents.isEmpty() ? EXACT_MATCH : new EagerMatchResult(0, subEvents);
   }
 
   public static MatchResult noMatch(SubEvent... subEvents) {
@@ -65,7 +84,7 @@ public abstract class MatchResult implements Comparable<MatchResult> {
   }
 
   public static MatchResult noMatch(List<SubEvent> subEvents) {
-    return new EagerMatchResult(1, subEvents);
+    return subEvents.isEmpty() ? NO_MATCH : new EagerMatchResult(1, subEvents);
   }
 
   public static MatchResult of(boolean isMatch, SubEvent... subEvents) {
@@ -81,8 +100,38 @@ public abstract class MatchResult implements Comparable<MatchResult> {
   }
 
   public static MatchResult aggregate(final List<MatchResult> matchResults) {
-    return aggregateWeighted(
-        matchResults.stream().map(WeightedMatchResult::new).collect(Collectors.toList()));
+    return new MatchResult() {
+      @Override
+      public boolean isExactMatch() {
+        for (MatchResult matchResult : matchResults) {
+          if (!matchResult.isExactMatch()) {
+            return false;
+          }
+        }
+
+        return true;
+      }
+
+      @Override
+      public double getDistance() {
+        double totalDistance = 0;
+        for (MatchResult matchResult : matchResults) {
+          totalDistance += matchResult.getDistance();
+        }
+
+        return (totalDistance / matchResults.size());
+      }
+
+      @Override
+      public List<SubEvent> getSubEvents() {
+        List<SubEvent> allSubEvents = null;
+        for (MatchResult matchResult : matchResults) {
+          allSubEvents = collectSubEvents(matchResult, allSubEvents);
+        }
+
+        return allSubEvents == null ? List.of() : unmodifiableList(allSubEvents);
+      }
+    };
   }
 
   public static MatchResult aggregateWeighted(WeightedMatchResult... matchResults) {
@@ -90,16 +139,16 @@ public abstract class MatchResult implements Comparable<MatchResult> {
   }
 
   public static MatchResult aggregateWeighted(final List<WeightedMatchResult> matchResults) {
-
-    final List<SubEvent> allSubEvents =
-        matchResults.stream()
-            .flatMap(weightedResult -> weightedResult.getMatchResult().getSubEvents().stream())
-            .collect(Collectors.toList());
-
-    return new MatchResult(allSubEvents) {
+    return new MatchResult() {
       @Override
       public boolean isExactMatch() {
-        return matchResults.stream().allMatch(ARE_EXACT_MATCH);
+        for (WeightedMatchResult matchResult : matchResults) {
+          if (!matchResult.isExactMatch()) {
+            return false;
+          }
+        }
+
+        return true;
       }
 
       @Override
@@ -113,9 +162,30 @@ public abstract class MatchResult implements Comparable<MatchResult> {
 
         return (totalDistance / sizeWithWeighting);
       }
+
+      @Override
+      public List<SubEvent> getSubEvents() {
+        List<SubEvent> allSubEvents = null;
+        for (WeightedMatchResult matchResult : matchResults) {
+          allSubEvents = collectSubEvents(matchResult.getMatchResult(), allSubEvents);
+        }
+
+        return allSubEvents == null ? List.of() : unmodifiableList(allSubEvents);
+      }
     };
   }
 
+  static List<SubEvent> collectSubEvents(MatchResult matchResult, List<SubEvent> collected) {
+    final List<SubEvent> subEvents = matchResult.getSubEvents();
+    if (subEvents.isEmpty()) {
+      return collected;
+    }
+
+    final List<SubEvent> target = collected != null ? collected : new ArrayList<>();
+    target.addAll(subEvents);
+    return target;
+  }
+
   @JsonIgnore
   public abstract boolean isExactMatch();
 
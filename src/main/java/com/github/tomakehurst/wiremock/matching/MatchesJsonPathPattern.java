@@ -22,7 +22,11 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
+import com.github.tomakehurst.wiremock.common.StreamingJsonPath;
+import com.github.tomakehurst.wiremock.http.ParsedBody;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
 import java.util.*;
@@ -30,9 +34,14 @@ import java.util.*;
 @JsonSerialize(using = JsonPathPatternJsonSerializer.class)
 public class MatchesJsonPathPattern extends PathPattern {
 
+  private final JsonPath jsonPath;
+  private final StreamingJsonPath streamingJsonPath;
+
   public MatchesJsonPathPattern(
       @JsonProperty("matchesJsonPath") String expectedJsonPath, StringValuePattern valuePattern) {
     super(expectedJsonPath, valuePattern);
+    jsonPath = compile(expectedJsonPath);
+    streamingJsonPath = jsonPath != null ? StreamingJsonPath.compile(expectedJsonPath) : null;
   }
 
   public MatchesJsonPathPattern(String value) {
@@ -43,18 +52,50 @@ public class MatchesJsonPathPattern extends PathPattern {
     return expectedValue;
   }
 
+  // An invalid expression is left uncompiled, so that it fails on every match as it always has
+  private static JsonPath compile(String expression) {
+    try {
+      return JsonPath.compile(expression);
+    } catch (InvalidPathException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  // Large documents need not be parsed in full when a definite path leads to a scalar, unless
+  // another pattern has already parsed this one
+  private String findScalar(ParsedBody body) {
+    return streamingJsonPath != null && body.prefersStreamingToJsonPathDocument()
+        ? streamingJsonPath.findScalar(body.asString())
+        : null;
+  }
+
+  private Object read(ParsedBody body) {
+    final DocumentContext document = body.asJsonPathDocument();
+    return jsonPath != null ? document.read(jsonPath) : document.read(expectedValue);
+  }
+
   protected MatchResult isSimpleMatch(String value) {
+    return isSimpleMatch(ParsedBody.of(value));
+  }
+
+  @Override
+  protected MatchResult isSimpleMatch(ParsedBody body) {
+    final String value = body.asString();
     // For performance reason, don't try to parse XML value
     if (value != null && value.trim().startsWith("<")) {
       final String message =
           String.format(
-              "Warning: JSON path expression '%s' failed to match document '%s' because it's not JSON but probably XML",
+              "Warning: JSON path expression '%s' failed to match document '%s' because it's not"
+                  + " JSON but probably XML",
               expectedValue, value);
       notifier().info(message);
       return MatchResult.noMatch(SubEvent.warning(message));
     }
+    if (findScalar(body) != null) {
+      return MatchResult.exactMatch();
+    }
     try {
-      Object obj = JsonPath.read(value, expectedValue);
+      Object obj = read(body);
 
       boolean result;
       if (obj instanceof Collection) {
@@ -86,8 +127,13 @@ public class MatchesJsonPathPattern extends PathPattern {
   }
 
   protected MatchResult isAdvancedMatch(String value) {
+    return isAdvancedMatch(ParsedBody.of(value));
+  }
+
+  @Override
+  protected MatchResult isAdvancedMatch(ParsedBody body) {
     try {
-      ListOrSingle<String> expressionResult = getExpressionResult(value);
+      ListOrSingle<String> expressionResult = getExpressionResult(body);
 
       // Bit of a hack, but otherwise empty array results aren't matched as absent()
       if ((expressionResult == null || expressionResult.isEmpty())
@@ -113,19 +159,30 @@ public class MatchesJsonPathPattern extends PathPattern {
 
   @Override
   public ListOrSingle<String> getExpressionResult(final String value) {
+    return getExpressionResult(ParsedBody.of(value));
+  }
+
+  private ListOrSingle<String> getExpressionResult(final ParsedBody body) {
+    final String value = body.asString();
     // For performance reason, don't try to parse XML value
     if (value != null && value.trim().startsWith("<")) {
       final String message =
           String.format(
-              "Warning: JSON path expression '%s' failed to match document '%s' because it's not JSON but probably XML",
+              "Warning: JSON path expression '%s' failed to match document '%s' because it's not"
+                  + " JSON but probably XML",
               expectedValue, value);
 
       throw new SubExpressionException(message);
     }
 
+    final String scalar = findScalar(body);
+    if (scalar != null) {
+      return ListOrSingle.of(scalar);
+    }
+
     Object obj = null;
     try {
-      obj = JsonPath.read(value, expectedValue);
+      obj = read(body);
     } catch (PathNotFoundException ignored) {
     } catch (Exception e) {
       String error;
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.databind.node.TextNode;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.JsonException;
+import com.github.tomakehurst.wiremock.http.ParsedBody;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SchemaValidatorsConfig;
@@ -69,13 +70,19 @@ public class MatchesJsonSchemaPattern extends StringValuePattern {
 
   @Override
   public MatchResult match(String json) {
+    return matchBody(ParsedBody.of(json));
+  }
+
+  @Override
+  public MatchResult matchBody(ParsedBody body) {
+    final String json = body.asString();
     if (json == null) {
       return MatchResult.noMatch();
     }
 
     JsonNode jsonNode;
     try {
-      jsonNode = Json.read(json, JsonNode.class);
+      jsonNode = body.asJsonTree();
     } catch (JsonException je) {
       jsonNode = new TextNode(json);
     }
@@ -23,6 +23,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
 import com.github.tomakehurst.wiremock.common.xml.*;
+import com.github.tomakehurst.wiremock.http.ParsedBody;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -31,6 +32,8 @@ import java.util.stream.Collectors;
 public class MatchesXPathPattern extends PathPattern {
 
   private final Map<String, String> xpathNamespaces;
+  private final CompiledXPath compiledXPath;
+  private final StreamingXPath streamingXPath;
 
   public MatchesXPathPattern(String xpath) {
     this(xpath, null, null);
@@ -50,6 +53,8 @@ public class MatchesXPathPattern extends PathPattern {
       @JsonProperty("valuePattern") StringValuePattern valuePattern) {
     super(xpath, valuePattern);
     xpathNamespaces = namespaces == null || namespaces.isEmpty() ? null : namespaces;
+    compiledXPath = new CompiledXPath(xpath, xpathNamespaces);
+    streamingXPath = xpathNamespaces == null ? StreamingXPath.compile(xpath) : null;
   }
 
   public MatchesXPathPattern withXPathNamespace(String name, String namespaceUri) {
@@ -70,30 +75,70 @@ public class MatchesXPathPattern extends PathPattern {
 
   @Override
   protected MatchResult isSimpleMatch(String value) {
-    final XmlNodeFindResult xmlNodeFindResult = findXmlNodes(value);
+    return isSimpleMatch(ParsedBody.of(value));
+  }
+
+  @Override
+  protected MatchResult isSimpleMatch(ParsedBody body) {
+    final String value = body.asString();
+    if (streamingXPath != null && looksLikeXml(value) && body.prefersStreamingToXmlDocument()) {
+      // Any node selected decides the match, so reading can stop at the first
+      final boolean[] found = {false};
+      final boolean evaluated =
+          streamingXPath.evaluate(
+              value,
+              node -> {
+                found[0] = true;
+                return false;
+              });
+      if (evaluated) {
+        return MatchResult.of(found[0]);
+      }
+    }
+
+    final XmlNodeFindResult xmlNodeFindResult = findXmlNodes(body);
     ListOrSingle<XmlNode> nodeList = xmlNodeFindResult.nodes;
     return MatchResult.of(nodeList != null && !nodeList.isEmpty(), xmlNodeFindResult.subEvents);
   }
 
   @Override
   protected MatchResult isAdvancedMatch(String value) {
-    final XmlNodeFindResult xmlNodeFindResult = findXmlNodes(value);
+    return isAdvancedMatch(ParsedBody.of(value));
+  }
+
+  @Override
+  protected MatchResult isAdvancedMatch(ParsedBody body) {
+    final String value = body.asString();
+    if (streamingXPath != null
+        && streamingXPath.selectsValues()
+        && looksLikeXml(value)
+        && body.prefersStreamingToXmlDocument()) {
+      final ClosestMatch closestMatch = new ClosestMatch();
+      if (streamingXPath.evaluate(value, closestMatch::add)) {
+        return closestMatch.get(Collections.emptyList());
+      }
+    }
+
+    final XmlNodeFindResult xmlNodeFindResult = findXmlNodes(body);
     ListOrSingle<XmlNode> nodeList = xmlNodeFindResult.nodes;
     if (nodeList == null || nodeList.isEmpty()) {
       return MatchResult.noMatch(xmlNodeFindResult.subEvents);
     }
 
-    SortedSet<MatchResult> results = new TreeSet<>();
+    // Elements are only rendered as strings until one of them matches exactly
+    final ClosestMatch closestMatch = new ClosestMatch();
     for (XmlNode node : nodeList) {
-      results.add(valuePattern.match(node.toString()));
+      if (!closestMatch.add(node.toString())) {
+        break;
+      }
     }
 
-    return results.last();
+    return closestMatch.get(xmlNodeFindResult.subEvents);
   }
 
   @Override
   public ListOrSingle<String> getExpressionResult(String value) {
-    ListOrSingle<XmlNode> nodeList = findXmlNodes(value).nodes;
+    ListOrSingle<XmlNode> nodeList = findXmlNodes(ParsedBody.of(value)).nodes;
     if (nodeList == null || nodeList.isEmpty()) {
       return ListOrSingle.of();
     }
@@ -101,9 +146,10 @@ public class MatchesXPathPattern extends PathPattern {
     return ListOrSingle.of(nodeList.stream().map(XmlNode::toString).collect(Collectors.toList()));
   }
 
-  private XmlNodeFindResult findXmlNodes(String value) {
+  private XmlNodeFindResult findXmlNodes(ParsedBody body) {
+    final String value = body.asString();
     // For performance reason, don't try to parse non XML value
-    if (value == null || !value.trim().startsWith("<")) {
+    if (!looksLikeXml(value)) {
       final String message =
           String.format("Warning: failed to parse the XML document\nXML: %s", value);
       notifier().info(message);
@@ -111,8 +157,8 @@ public class MatchesXPathPattern extends PathPattern {
     }
 
     try {
-      XmlDocument xmlDocument = Xml.parse(value);
-      return new XmlNodeFindResult(xmlDocument.findNodes(expectedValue, xpathNamespaces));
+      XmlDocument xmlDocument = body.asXmlDocument();
+      return new XmlNodeFindResult(compiledXPath.findNodes(xmlDocument));
     } catch (XmlException e) {
       final String message =
           String.format(
@@ -127,6 +173,36 @@ public class MatchesXPathPattern extends PathPattern {
     }
   }
 
+  private static boolean looksLikeXml(String value) {
+    return value != null && value.trim().startsWith("<");
+  }
+
+  /** The result for the node closest to matching the value pattern, or the first exact match. */
+  private class ClosestMatch {
+    private final SortedSet<MatchResult> results = new TreeSet<>();
+    private MatchResult exactMatch;
+
+    /** Returns whether there could still be a closer match. */
+    boolean add(String nodeValue) {
+      final MatchResult result = valuePattern.match(nodeValue);
+      if (result.isExactMatch()) {
+        exactMatch = result;
+        return false;
+      }
+
+      results.add(result);
+      return true;
+    }
+
+    MatchResult get(List<SubEvent> subEventsWhenNoNodes) {
+      if (exactMatch != null) {
+        return exactMatch;
+      }
+
+      return results.isEmpty() ? MatchResult.noMatch(subEventsWhenNoNodes) : results.last();
+    }
+  }
+
   private static class XmlNodeFindResult {
     final ListOrSingle<XmlNode> nodes;
     final List<SubEvent> subEvents;
@@ -17,6 +17,7 @@ package com.github.tomakehurst.wiremock.matching;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
+import com.github.tomakehurst.wiremock.http.ParsedBody;
 import java.util.Objects;
 
 public abstract class PathPattern extends StringValuePattern {
@@ -46,10 +47,27 @@ public abstract class PathPattern extends StringValuePattern {
     return isAdvancedMatch(value);
   }
 
+  @Override
+  public MatchResult matchBody(ParsedBody body) {
+    if (isSimple()) {
+      return isSimpleMatch(body);
+    }
+
+    return isAdvancedMatch(body);
+  }
+
   protected abstract MatchResult isSimpleMatch(String value);
 
   protected abstract MatchResult isAdvancedMatch(String value);
 
+  protected MatchResult isSimpleMatch(ParsedBody body) {
+    return isSimpleMatch(body.asString());
+  }
+
+  protected MatchResult isAdvancedMatch(ParsedBody body) {
+    return isAdvancedMatch(body.asString());
+  }
+
   public abstract ListOrSingle<String> getExpressionResult(String value);
 
   @Override
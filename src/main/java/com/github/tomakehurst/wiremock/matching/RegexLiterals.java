@@ -0,0 +1,301 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.matching;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Finds literal text that every string matching a regex must contain. The analysis is deliberately
+ * conservative: alternation, quoting, case-insensitive or comments flags, and escapes it does not
+ * decode, such as backreferences and property classes, cause it to give up and report no literals
+ * at all, so a reported literal is always safe to prefilter on.
+ */
+public class RegexLiterals {
+
+  private static final Pattern CASE_INSENSITIVE_OR_COMMENTS_FLAG =
+      Pattern.compile("\\(\\?[a-zA-Z-]*[ix]");
+
+  private RegexLiterals() {}
+
+  /** The literal text that every match must start with, or an empty string if there is none. */
+  public static String literalPrefix(String regex) {
+    if (!isAnalysable(regex)) {
+      return "";
+    }
+
+    final List<String> runs = literalRuns(regex, true);
+    return runs == null || runs.isEmpty() ? "" : runs.get(0);
+  }
+
+  /** Runs of literal text that every match must contain, in the order they appear. */
+  public static List<String> requiredLiterals(String regex) {
+    if (!isAnalysable(regex)) {
+      return List.of();
+    }
+
+    final List<String> runs = literalRuns(regex, false);
+    return runs == null ? List.of() : runs;
+  }
+
+  private static boolean isAnalysable(String regex) {
+    return regex.indexOf('|') == -1
+        && !regex.contains("\\Q")
+        && !CASE_INSENSITIVE_OR_COMMENTS_FLAG.matcher(regex).find();
+  }
+
+  // Null when the regex holds an escape that is not understood
+  private static List<String> literalRuns(String regex, boolean prefixOnly) {
+    final List<String> runs = new ArrayList<>();
+    final StringBuilder run = new StringBuilder();
+    final int length = regex.length();
+
+    int i = regex.startsWith("^") ? 1 : 0;
+    while (i < length) {
+      final char c = regex.charAt(i);
+      int literal = NONE;
+      int next;
+      if (c == '\\') {
+        final Escape escape = Escape.at(regex, i);
+        if (escape == null) {
+          return null;
+        }
+        literal = escape.literal;
+        next = escape.end;
+      } else if (c == '[') {
+        next = endOfCharacterClass(regex, i);
+      } else if (c == '(') {
+        next = endOfGroup(regex, i);
+      } else if (c == '^' || c == '$' || c == '.') {
+        next = i + 1;
+      } else {
+        // A quantifier after a supplementary character applies to all of it, not the low surrogate
+        literal = regex.codePointAt(i);
+        next = i + Character.charCount(literal);
+      }
+
+      final char quantifier = next < length ? regex.charAt(next) : 0;
+      final boolean quantified =
+          quantifier == '?' || quantifier == '*' || quantifier == '+' || quantifier == '{';
+      if (literal != NONE && quantifier != '?' && quantifier != '*' && quantifier != '{') {
+        run.appendCodePoint(literal);
+      }
+
+      if (literal == NONE || quantified) {
+        if (prefixOnly) {
+          runs.add(run.toString());
+          return runs;
+        }
+        addIfNotEmpty(run, runs);
+        next = quantified ? endOfQuantifier(regex, next) : next;
+      }
+
+      i = next;
+    }
+
+    if (prefixOnly) {
+      runs.add(run.toString());
+    } else {
+      addIfNotEmpty(run, runs);
+    }
+    return runs;
+  }
+
+  private static final int NONE = -1;
+
+  /** An escape sequence, and the character it stands for if it stands for exactly one. */
+  private static class Escape {
+    private static final String CLASSES_AND_BOUNDARIES = "dDsSwWbBAGZzhHvVRX";
+    private static final String CONTROL_LETTERS = "tnrfae";
+    private static final String CONTROL_CHARACTERS = "\t\n\r\f\u0007\u001B";
+
+    private final int literal;
+    private final int end;
+
+    private Escape(int literal, int end) {
+      this.literal = literal;
+      this.end = end;
+    }
+
+    /** The escape starting at the backslash, or null if it is one that is not decoded. */
+    static Escape at(String regex, int start) {
+      if (start + 1 >= regex.length()) {
+        return null;
+      }
+
+      final int escaped = regex.codePointAt(start + 1);
+      if (!Character.isLetterOrDigit(escaped)) {
+        return new Escape(escaped, start + 1 + Character.charCount(escaped));
+      }
+
+      final char c = regex.charAt(start + 1);
+      if (CLASSES_AND_BOUNDARIES.indexOf(c) != -1) {
+        return new Escape(NONE, start + 2);
+      }
+      if (CONTROL_LETTERS.indexOf(c) != -1) {
+        return new Escape(CONTROL_CHARACTERS.charAt(CONTROL_LETTERS.indexOf(c)), start + 2);
+      }
+
+      switch (c) {
+        case 'x':
+          return hex(regex, start + 2);
+        case 'u':
+          return unicode(regex, start + 2);
+        case '0':
+          return octal(regex, start + 2);
+        case 'c':
+          return start + 2 < regex.length()
+              ? new Escape(regex.charAt(start + 2) ^ 64, start + 3)
+              : null;
+        default:
+          // Backreferences, named groups, property classes and anything unknown
+          return null;
+      }
+    }
+
+    private static Escape hex(String regex, int start) {
+      if (start < regex.length() && regex.charAt(start) == '{') {
+        final int close = regex.indexOf('}', start);
+        final Integer codePoint = close == -1 ? null : parseHex(regex, start + 1, close);
+        return codePoint != null && Character.isValidCodePoint(codePoint)
+            ? new Escape(codePoint, close + 1)
+            : null;
+      }
+
+      final Integer value = parseHex(regex, start, start + 2);
+      return value != null ? new Escape(value, start + 2) : null;
+    }
+
+    private static Escape unicode(String regex, int start) {
+      final Integer value = parseHex(regex, start, start + 4);
+      // A surrogate may pair with the next escape into one character, so leave it alone
+      return value != null && !Character.isSurrogate((char) value.intValue())
+          ? new Escape(value, start + 4)
+          : null;
+    }
+
+    private static Escape octal(String regex, int start) {
+      int value = 0;
+      int i = start;
+      final int maxDigits = start < regex.length() && regex.charAt(start) <= '3' ? 3 : 2;
+      while (i < regex.length() && i - start < maxDigits) {
+        final char digit = regex.charAt(i);
+        if (digit < '0' || digit > '7') {
+          break;
+        }
+        value = value * 8 + (digit - '0');
+        i++;
+      }
+
+      return i > start ? new Escape(value, i) : null;
+    }
+
+    private static Integer parseHex(String regex, int start, int end) {
+      if (end > regex.length() || end <= start) {
+        return null;
+      }
+
+      int value = 0;
+      for (int i = start; i < end; i++) {
+        final int digit = Character.digit(regex.charAt(i), 16);
+        if (digit == -1 || value > 0x10FFFF) {
+          return null;
+        }
+        value = value * 16 + digit;
+      }
+
+      return value;
+    }
+  }
+
+  private static void addIfNotEmpty(StringBuilder run, List<String> runs) {
+    if (run.length() > 0) {
+      runs.add(run.toString());
+      run.setLength(0);
+    }
+  }
+
+  private static int endOfCharacterClass(String regex, int start) {
+    int i = start + 1;
+    if (i < regex.length() && regex.charAt(i) == '^') {
+      i++;
+    }
+    if (i < regex.length() && regex.charAt(i) == ']') {
+      i++;
+    }
+
+    int depth = 1;
+    while (i < regex.length()) {
+      final char c = regex.charAt(i);
+      if (c == '\\') {
+        i += 2;
+        continue;
+      }
+
+      if (c == '[') {
+        depth++;
+      } else if (c == ']' && --depth == 0) {
+        return i + 1;
+      }
+      i++;
+    }
+
+    return regex.length();
+  }
+
+  private static int endOfGroup(String regex, int start) {
+    int depth = 0;
+    int i = start;
+    while (i < regex.length()) {
+      final char c = regex.charAt(i);
+      if (c == '\\') {
+        i += 2;
+        continue;
+      }
+
+      if (c == '[') {
+        i = endOfCharacterClass(regex, i);
+        continue;
+      }
+
+      if (c == '(') {
+        depth++;
+      } else if (c == ')' && --depth == 0) {
+        return i + 1;
+      }
+      i++;
+    }
+
+    return regex.length();
+  }
+
+  private static int endOfQuantifier(String regex, int start) {
+    int i = start;
+    if (regex.charAt(i) == '{') {
+      final int close = regex.indexOf('}', i);
+      i = close == -1 ? regex.length() : close + 1;
+    } else {
+      i++;
+    }
+
+    if (i < regex.length() && (regex.charAt(i) == '?' || regex.charAt(i) == '+')) {
+      i++;
+    }
+
+    return i;
+  }
+}
@@ -20,7 +20,7 @@ import static com.github.tomakehurst.wiremock.common.ContentTypes.AUTHORIZATION;
 import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonNull;
 import static com.github.tomakehurst.wiremock.matching.RequestMatcherExtension.NEVER;
 import static com.github.tomakehurst.wiremock.matching.RequestPatternBuilder.newRequestPattern;
-import static com.github.tomakehurst.wiremock.matching.WeightedMatchResult.weight;
+import static com.github.tomakehurst.wiremock.matching.ShortCircuitMatchResult.criterion;
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 
@@ -39,7 +39,6 @@ import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import java.util.*;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import org.apache.commons.lang3.StringUtils;
 
 public class RequestPattern implements NamedValueMatcher<Request> {
 
@@ -94,31 +93,31 @@ public class RequestPattern implements NamedValueMatcher<Request> {
     this.multipartPatterns = multiPattern;
     this.hasInlineCustomMatcher = customMatcher != null;
 
+    final List<ShortCircuitMatchResult.Criterion<Request>> criteria =
+        new ArrayList<>(
+            asList(
+                criterion(request -> this.method.match(request.getMethod()), 3.0),
+                criterion(this::schemeMatches, 3.0),
+                criterion(this::portMatches, 10.0),
+                criterion(request -> this.url.match(request.getUrl()), 10.0),
+                criterion(this::hostMatches, 10.0),
+                criterion(this::allPathParamsMatch, 1.0),
+                criterion(this::allHeadersMatchResult, 1.0),
+                criterion(this::allQueryParamsMatch, 1.0),
+                criterion(this::allCookiesMatch, 1.0),
+                criterion(this::allFormParamsMatch, 1.0),
+                criterion(this::allBodyPatternsMatch, 1.0),
+                criterion(this::allMultipartPatternsMatch, 1.0)));
+
+    if (hasInlineCustomMatcher) {
+      criteria.add(criterion(customMatcher::match, 1.0));
+    }
+
     this.matcher =
         new RequestMatcher() {
           @Override
           public MatchResult match(Request request) {
-            List<WeightedMatchResult> matchResults =
-                new ArrayList<>(
-                    asList(
-                        weight(schemeMatches(request), 3.0),
-                        weight(hostMatches(request), 10.0),
-                        weight(portMatches(request), 10.0),
-                        weight(RequestPattern.this.url.match(request.getUrl()), 10.0),
-                        weight(RequestPattern.this.method.match(request.getMethod()), 3.0),
-                        weight(allPathParamsMatch(request)),
-                        weight(allHeadersMatchResult(request)),
-                        weight(allQueryParamsMatch(request)),
-                        weight(allFormParamsMatch(request)),
-                        weight(allCookiesMatch(request)),
-                        weight(allBodyPatternsMatch(request)),
-                        weight(allMultipartPatternsMatch(request))));
-
-            if (hasInlineCustomMatcher) {
-              matchResults.add(weight(customMatcher.match(request)));
-            }
-
-            return MatchResult.aggregateWeighted(matchResults);
+            return new ShortCircuitMatchResult<>(request, criteria);
           }
 
           @Override
@@ -237,11 +236,13 @@ public class RequestPattern implements NamedValueMatcher<Request> {
       RequestMatcherExtension requestMatcher =
           getFirstNonNull(customMatchers.get(customMatcherDefinition.getName()), NEVER);
 
-      MatchResult standardMatchResult = matcher.match(request);
-      MatchResult customMatchResult =
-          requestMatcher.match(request, customMatcherDefinition.getParameters());
-
-      return MatchResult.aggregate(standardMatchResult, customMatchResult);
+      return new ShortCircuitMatchResult<>(
+          request,
+          asList(
+              criterion(matcher::match, 1.0),
+              criterion(
+                  value -> requestMatcher.match(value, customMatcherDefinition.getParameters()),
+                  1.0)));
     }
 
     return matcher.match(request);
@@ -373,11 +374,7 @@ public class RequestPattern implements NamedValueMatcher<Request> {
                   (Function<ContentPattern, MatchResult>)
                       pattern -> {
                         if (StringValuePattern.class.isAssignableFrom(pattern.getClass())) {
-                          String body =
-                              StringUtils.isEmpty(request.getBodyAsString())
-                                  ? null
-                                  : request.getBodyAsString();
-                          return pattern.match(body);
+                          return ((StringValuePattern) pattern).matchBody(request.getParsedBody());
                         }
 
                         return pattern.match(request.getBody());
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.matching;
+
+import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Aggregates a list of weighted criteria, evaluating each one only when it is needed. An exact
+ * match check runs the criteria in order and stops at the first that fails, so criteria should be
+ * listed cheapest first. The distance is the same weighted average {@link
+ * MatchResult#aggregateWeighted(List)} produces, and evaluates whatever criteria the exact match
+ * check skipped. Sub-events are only reported for criteria that have actually been evaluated.
+ */
+class ShortCircuitMatchResult<T> extends MatchResult {
+
+  private final T value;
+  private final List<Criterion<T>> criteria;
+  private final MatchResult[] results;
+
+  private Boolean exactMatch;
+  private Double distance;
+
+  ShortCircuitMatchResult(T value, List<Criterion<T>> criteria) {
+    this.value = value;
+    this.criteria = criteria;
+    this.results = new MatchResult[criteria.size()];
+  }
+
+  static <T> Criterion<T> criterion(Function<T, MatchResult> matcher, double weighting) {
+    return new Criterion<>(matcher, weighting);
+  }
+
+  @Override
+  public boolean isExactMatch() {
+    if (exactMatch == null) {
+      exactMatch = allExactMatch();
+    }
+
+    return exactMatch;
+  }
+
+  @Override
+  public double getDistance() {
+    if (distance == null) {
+      double totalDistance = 0;
+      double sizeWithWeighting = 0;
+      for (int i = 0; i < criteria.size(); i++) {
+        final double weighting = criteria.get(i).weighting;
+        totalDistance += weighting * resultAt(i).getDistance();
+        sizeWithWeighting += weighting;
+      }
+
+      distance = totalDistance / sizeWithWeighting;
+    }
+
+    return distance;
+  }
+
+  @Override
+  public List<SubEvent> getSubEvents() {
+    List<SubEvent> subEvents = null;
+    for (MatchResult result : results) {
+      if (result != null) {
+        subEvents = collectSubEvents(result, subEvents);
+      }
+    }
+
+    return subEvents == null ? List.of() : Collections.unmodifiableList(subEvents);
+  }
+
+  private boolean allExactMatch() {
+    for (int i = 0; i < criteria.size(); i++) {
+      if (!resultAt(i).isExactMatch()) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private MatchResult resultAt(int index) {
+    if (results[index] == null) {
+      results[index] = criteria.get(index).matcher.apply(value);
+    }
+
+    return results[index];
+  }
+
+  static class Criterion<T> {
+    private final Function<T, MatchResult> matcher;
+    private final double weighting;
+
+    private Criterion(Function<T, MatchResult> matcher, double weighting) {
+      this.matcher = matcher;
+      this.weighting = weighting;
+    }
+  }
+}
@@ -18,6 +18,7 @@ package com.github.tomakehurst.wiremock.matching;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.github.tomakehurst.wiremock.http.ParsedBody;
 import java.lang.reflect.Constructor;
 import java.util.Arrays;
 import java.util.Objects;
@@ -43,6 +44,14 @@ public abstract class StringValuePattern extends ContentPattern<String> {
     return false;
   }
 
+  /**
+   * Matches a request body. Patterns that parse the value override this to use the parsed forms
+   * held by the body, which are shared by every pattern the request is matched against.
+   */
+  public MatchResult matchBody(ParsedBody body) {
+    return match(body.asString());
+  }
+
   @Override
   public String toString() {
     return getName() + " " + getValue();
@@ -0,0 +1,270 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.matching;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decides whether a JSON document is equal to an expected one, giving the same answer as JsonUnit
+ * with the same options but stopping at the first difference. Numbers are compared by their decimal
+ * values, as JsonUnit does.
+ *
+ * <p>When array order is ignored, elements are bucketed by a hash that agrees with equality. While
+ * extra elements are also ignored, only scalars can be paired up this way, since an expected object
+ * or array is then satisfied by any actual one containing it, so those are paired by searching for
+ * a complete matching as JsonUnit does.
+ *
+ * <p>JsonUnit placeholders such as {@code ${json-unit.any-string}} are not understood, so {@link
+ * #supports(JsonNode)} must be checked before comparing against an expected document.
+ */
+class StructuralJsonComparator {
+
+  private static final String PLACEHOLDER_MARKER = "{json-unit.";
+
+  private final JsonNode expected;
+  private final boolean ignoreArrayOrder;
+  private final boolean ignoreExtraElements;
+
+  StructuralJsonComparator(
+      JsonNode expected, boolean ignoreArrayOrder, boolean ignoreExtraElements) {
+    this.expected = expected;
+    this.ignoreArrayOrder = ignoreArrayOrder;
+    this.ignoreExtraElements = ignoreExtraElements;
+  }
+
+  /** Whether the document is made only of plain JSON values, with no JsonUnit placeholders. */
+  static boolean supports(JsonNode node) {
+    if (node == null) {
+      return false;
+    }
+
+    switch (node.getNodeType()) {
+      case OBJECT:
+      case ARRAY:
+        for (JsonNode child : node) {
+          if (!supports(child)) {
+            return false;
+          }
+        }
+        return true;
+      case STRING:
+        return !node.textValue().contains(PLACEHOLDER_MARKER);
+      case NUMBER:
+      case BOOLEAN:
+      case NULL:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  boolean matches(JsonNode actual) {
+    return isEqual(expected, actual);
+  }
+
+  private boolean isEqual(JsonNode expected, JsonNode actual) {
+    if (expected.getNodeType() != actual.getNodeType()) {
+      return false;
+    }
+
+    switch (expected.getNodeType()) {
+      case OBJECT:
+        return isEqualObject(expected, actual);
+      case ARRAY:
+        return ignoreArrayOrder
+            ? isEqualArrayIgnoringOrder(expected, actual)
+            : isEqualArray(expected, actual);
+      case STRING:
+        return expected.textValue().equals(actual.textValue());
+      case NUMBER:
+        return expected.decimalValue().equals(actual.decimalValue());
+      case BOOLEAN:
+        return expected.booleanValue() == actual.booleanValue();
+      default:
+        return true;
+    }
+  }
+
+  private boolean isEqualObject(JsonNode expected, JsonNode actual) {
+    if (ignoreExtraElements ? expected.size() > actual.size() : expected.size() != actual.size()) {
+      return false;
+    }
+
+    for (Iterator<Map.Entry<String, JsonNode>> fields = expected.fields(); fields.hasNext(); ) {
+      final Map.Entry<String, JsonNode> field = fields.next();
+      final JsonNode actualValue = actual.get(field.getKey());
+      if (actualValue == null || !isEqual(field.getValue(), actualValue)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private boolean isEqualArray(JsonNode expected, JsonNode actual) {
+    if (!hasAcceptableSize(expected, actual)) {
+      return false;
+    }
+
+    // Extra elements, where allowed, may only follow the expected ones
+    for (int i = 0; i < expected.size(); i++) {
+      if (!isEqual(expected.get(i), actual.get(i))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private boolean isEqualArrayIgnoringOrder(JsonNode expected, JsonNode actual) {
+    if (!hasAcceptableSize(expected, actual)) {
+      return false;
+    }
+
+    final Map<Integer, List<JsonNode>> actualByHash = new HashMap<>();
+    final List<JsonNode> actualContainers = new ArrayList<>();
+    for (JsonNode element : actual) {
+      if (ignoreExtraElements && element.isContainerNode()) {
+        actualContainers.add(element);
+      } else {
+        actualByHash.computeIfAbsent(hash(element), hash -> new ArrayList<>()).add(element);
+      }
+    }
+
+    final List<JsonNode> expectedContainers = new ArrayList<>();
+    for (JsonNode element : expected) {
+      if (ignoreExtraElements && element.isContainerNode()) {
+        expectedContainers.add(element);
+      } else if (!removeEqual(element, actualByHash.get(hash(element)))) {
+        return false;
+      }
+    }
+
+    return expectedContainers.isEmpty()
+        || new ContainerMatching(expectedContainers, actualContainers).isComplete();
+  }
+
+  private boolean hasAcceptableSize(JsonNode expected, JsonNode actual) {
+    return ignoreExtraElements
+        ? expected.size() <= actual.size()
+        : expected.size() == actual.size();
+  }
+
+  private boolean removeEqual(JsonNode expected, List<JsonNode> candidates) {
+    if (candidates == null) {
+      return false;
+    }
+
+    for (Iterator<JsonNode> iterator = candidates.iterator(); iterator.hasNext(); ) {
+      if (isEqual(expected, iterator.next())) {
+        iterator.remove();
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  // Only used while ignoring array order, and only where equality is symmetric: for scalars, or
+  // for anything when extra elements are not ignored
+  private int hash(JsonNode node) {
+    switch (node.getNodeType()) {
+      case OBJECT:
+        int objectHash = 1;
+        for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+          final Map.Entry<String, JsonNode> field = fields.next();
+          objectHash += field.getKey().hashCode() ^ hash(field.getValue());
+        }
+        return objectHash;
+      case ARRAY:
+        int arrayHash = 2;
+        for (JsonNode element : node) {
+          arrayHash += hash(element);
+        }
+        return arrayHash;
+      case STRING:
+        return node.textValue().hashCode();
+      case NUMBER:
+        return node.decimalValue().hashCode();
+      case BOOLEAN:
+        return Boolean.hashCode(node.booleanValue());
+      default:
+        return 0;
+    }
+  }
+
+  /**
+   * Pairs each expected object or array with a distinct actual one containing it, by finding a
+   * maximum bipartite matching with augmenting paths. Comparisons are made at most once per pair.
+   */
+  private class ContainerMatching {
+
+    private final List<JsonNode> expected;
+    private final List<JsonNode> actual;
+    private final Boolean[][] equal;
+    private final int[] matchedTo;
+
+    private ContainerMatching(List<JsonNode> expected, List<JsonNode> actual) {
+      this.expected = expected;
+      this.actual = actual;
+      this.equal = new Boolean[expected.size()][actual.size()];
+      this.matchedTo = new int[actual.size()];
+      Arrays.fill(matchedTo, -1);
+    }
+
+    boolean isComplete() {
+      if (expected.size() > actual.size()) {
+        return false;
+      }
+
+      for (int e = 0; e < expected.size(); e++) {
+        if (!augment(e, new boolean[actual.size()])) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    private boolean augment(int e, boolean[] visited) {
+      for (int a = 0; a < actual.size(); a++) {
+        if (!visited[a] && isEqualAt(e, a)) {
+          visited[a] = true;
+          if (matchedTo[a] < 0 || augment(matchedTo[a], visited)) {
+            matchedTo[a] = e;
+            return true;
+          }
+        }
+      }
+
+      return false;
+    }
+
+    private boolean isEqualAt(int e, int a) {
+      if (equal[e][a] == null) {
+        equal[e][a] = isEqual(expected.get(e), actual.get(a));
+      }
+
+      return equal[e][a];
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.matching;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Arrays;
+
+/**
+ * A string encoded as UTF-8 once, so that it can be compared with or searched for in a UTF-8 body
+ * without decoding the body. A byte-level answer agrees with the decoded one as long as the string
+ * has a UTF-8 encoding of its own, since every encoded character then starts on a character
+ * boundary of the body, even around bytes that would have decoded to replacement characters.
+ *
+ * <p>Occurrences are searched for with Boyer-Moore-Horspool, confirming each candidate with the
+ * JDK's vectorised array comparison.
+ */
+class Utf8Needle {
+
+  private static final char REPLACEMENT_CHARACTER = '\uFFFD';
+
+  private final byte[] bytes;
+  private final int[] shifts;
+
+  private Utf8Needle(byte[] bytes) {
+    this.bytes = bytes;
+    this.shifts = new int[256];
+    Arrays.fill(shifts, bytes.length);
+    for (int i = 0; i < bytes.length - 1; i++) {
+      shifts[bytes[i] & 0xFF] = bytes.length - 1 - i;
+    }
+  }
+
+  /**
+   * The needle for the string, or null if it has unpaired surrogates, which do not encode, or
+   * replacement characters, which a malformed body decodes to.
+   */
+  static Utf8Needle of(String value) {
+    if (value == null || value.indexOf(REPLACEMENT_CHARACTER) >= 0) {
+      return null;
+    }
+
+    final byte[] bytes = value.getBytes(UTF_8);
+    return new String(bytes, UTF_8).equals(value) ? new Utf8Needle(bytes) : null;
+  }
+
+  boolean isEqualTo(byte[] haystack) {
+    return Arrays.equals(bytes, haystack);
+  }
+
+  boolean isFoundIn(byte[] haystack) {
+    final int last = bytes.length - 1;
+    if (last < 0) {
+      return true;
+    }
+
+    final byte lastByte = bytes[last];
+    int start = 0;
+    while (start + last < haystack.length) {
+      final byte candidate = haystack[start + last];
+      if (candidate == lastByte && Arrays.equals(haystack, start, start + last, bytes, 0, last)) {
+        return true;
+      }
+      start += shifts[candidate & 0xFF];
+    }
+
+    return false;
+  }
+}
@@ -15,7 +15,11 @@
  */
 package com.github.tomakehurst.wiremock.servlet;
 
+import static com.github.tomakehurst.wiremock.common.ContentTypes.ACCEPT_ENCODING;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.CONTENT_ENCODING;
 import static com.github.tomakehurst.wiremock.common.ContentTypes.CONTENT_LENGTH;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.ETAG;
+import static com.github.tomakehurst.wiremock.common.ContentTypes.VARY;
 import static com.github.tomakehurst.wiremock.common.Exceptions.throwUnchecked;
 import static com.github.tomakehurst.wiremock.common.ParameterUtils.getFirstNonNull;
 import static com.github.tomakehurst.wiremock.core.Options.ChunkedEncodingPolicy.BODY_FILE;
@@ -28,12 +32,15 @@ import static java.net.URLDecoder.decode;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
+import com.github.tomakehurst.wiremock.common.Limit;
 import com.github.tomakehurst.wiremock.common.LocalNotifier;
 import com.github.tomakehurst.wiremock.common.Notifier;
 import com.github.tomakehurst.wiremock.core.FaultInjector;
 import com.github.tomakehurst.wiremock.core.Options;
 import com.github.tomakehurst.wiremock.core.WireMockApp;
 import com.github.tomakehurst.wiremock.http.*;
+import com.github.tomakehurst.wiremock.jetty.GzipRules;
+import com.github.tomakehurst.wiremock.jetty.JettyUtils;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
 import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import jakarta.servlet.*;
@@ -42,9 +49,13 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ScheduledExecutorService;
+import org.eclipse.jetty.server.HttpOutput;
 
 public class WireMockHandlerDispatchingServlet extends HttpServlet {
 
@@ -66,6 +77,7 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
   private MultipartRequestConfigurer multipartRequestConfigurer;
   private Options.ChunkedEncodingPolicy chunkedEncodingPolicy;
   private boolean browserProxyingEnabled;
+  private GzipRules gzipRules;
 
   @Override
   public void init(ServletConfig config) {
@@ -112,6 +124,8 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
     browserProxyingEnabled =
         Boolean.parseBoolean(
             getFirstNonNull(context.getAttribute("browserProxyingEnabled"), "false").toString());
+
+    gzipRules = (GzipRules) context.getAttribute(GzipRules.KEY);
   }
 
   private String getNormalizedMappedUnder(ServletConfig config) {
@@ -267,18 +281,79 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
       }
     }
 
-    if ((chunkedEncodingPolicy == NEVER
-            || (chunkedEncodingPolicy == BODY_FILE && response.hasInlineBody()))
-        && httpServletResponse.getHeader(CONTENT_LENGTH) == null) {
-      httpServletResponse.setContentLength(response.getBody().length);
+    final boolean declaresContentLength =
+        (chunkedEncodingPolicy == NEVER
+                || (chunkedEncodingPolicy == BODY_FILE && response.hasInlineBody()))
+            && httpServletResponse.getHeader(CONTENT_LENGTH) == null;
+
+    final String compressedEncoding =
+        compressedEncodingFor(response, httpServletRequest, declaresContentLength);
+    final byte[] compressedBody =
+        compressedEncoding != null
+            ? response.getCompressedBodies().encodedAs(compressedEncoding)
+            : null;
+    if (compressedBody != null) {
+      httpServletResponse.setHeader(CONTENT_ENCODING, compressedEncoding);
+      if (gzipRules.getVary() != null) {
+        httpServletResponse.addHeader(VARY, gzipRules.getVary());
+      }
+    }
+
+    // A body of unknown length is read into memory to measure it, and then sent from there
+    final Response measuredResponse =
+        declaresContentLength && compressedBody == null && response.getBodyLength() < 0
+            ? response.withBodyReadOnce(Limit.UNLIMITED)
+            : response;
+    if (declaresContentLength) {
+      httpServletResponse.setContentLengthLong(
+          compressedBody != null ? compressedBody.length : measuredResponse.getBodyLength());
     }
 
-    if (response.shouldAddChunkedDribbleDelay()) {
+    if (compressedBody != null) {
+      writeAndTranslateExceptions(httpServletResponse, compressedBody);
+    } else if (measuredResponse.shouldAddChunkedDribbleDelay()) {
       writeAndTranslateExceptionsWithChunkedDribbleDelay(
-          httpServletResponse, response.getBodyStream(), response.getChunkedDribbleDelay());
+          httpServletResponse,
+          measuredResponse.getBodyStream(),
+          measuredResponse.getChunkedDribbleDelay());
     } else {
-      writeAndTranslateExceptions(httpServletResponse, response.getBodyStream());
+      writeAndTranslateExceptions(httpServletResponse, measuredResponse);
+    }
+  }
+
+  /**
+   * The encoding in which to send a body that has already been compressed, where the gzip handler
+   * would otherwise compress it afresh on every request, or null to send the body as it is.
+   */
+  private String compressedEncodingFor(
+      Response response, HttpServletRequest httpServletRequest, boolean declaresContentLength) {
+    final CompressedBodies compressedBodies = response.getCompressedBodies();
+    if (gzipRules == null
+        || compressedBodies == null
+        || response.shouldAddChunkedDribbleDelay()
+        || response.getBodyLength() == 0
+        || response.getHeaders().getHeader(CONTENT_ENCODING).isPresent()
+        || response.getHeaders().getHeader(CONTENT_LENGTH).isPresent()
+        || response.getHeaders().getHeader(ETAG).isPresent()) {
+      return null;
+    }
+
+    final String encoding =
+        CompressedBodies.preferredEncoding(httpServletRequest.getHeader(ACCEPT_ENCODING));
+    final String contentType =
+        response.getHeaders().getContentTypeHeader().isPresent()
+            ? response.getHeaders().getContentTypeHeader().firstValue()
+            : null;
+    if (encoding == null
+        || !gzipRules.wouldCompress(
+            httpServletRequest.getMethod(),
+            response.getStatus(),
+            contentType,
+            declaresContentLength ? response.getBodyLength() : -1)) {
+      return null;
     }
+
+    return encoding;
   }
 
   private FaultInjector buildFaultInjector(
@@ -287,18 +362,68 @@ public class WireMockHandlerDispatchingServlet extends HttpServlet {
   }
 
   private static void writeAndTranslateExceptions(
-      HttpServletResponse httpServletResponse, InputStream content) {
+      HttpServletResponse httpServletResponse, Response response) {
     try (ServletOutputStream out = httpServletResponse.getOutputStream()) {
-      content.transferTo(out);
+      response.writeBodyTo(asChannelIfJetty(out));
       out.flush();
     } catch (IOException e) {
       throwUnchecked(e);
-    } finally {
-      try {
-        content.close();
-      } catch (IOException e) {
-        // well, we tried
-      }
+    }
+  }
+
+  private static void writeAndTranslateExceptions(
+      HttpServletResponse httpServletResponse, byte[] body) {
+    try (ServletOutputStream out = httpServletResponse.getOutputStream()) {
+      out.write(body);
+      out.flush();
+    } catch (IOException e) {
+      throwUnchecked(e);
+    }
+  }
+
+  private static OutputStream asChannelIfJetty(ServletOutputStream out) {
+    return JettyUtils.isJetty() && out instanceof HttpOutput
+        ? new HttpOutputChannel((HttpOutput) out)
+        : out;
+  }
+
+  /**
+   * Jetty's output as a channel, so that file bodies can be written from direct buffers, which
+   * Jetty passes to the connection without copying them onto the heap.
+   */
+  private static class HttpOutputChannel extends OutputStream implements WritableByteChannel {
+
+    private final HttpOutput out;
+
+    HttpOutputChannel(HttpOutput out) {
+      this.out = out;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+      final int length = src.remaining();
+      out.write(src);
+      return length;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+    }
+
+    @Override
+    public boolean isOpen() {
+      return !out.isClosed();
+    }
+
+    @Override
+    public void close() {
+      // The servlet closes the underlying output
     }
   }
 
@@ -21,15 +21,12 @@ import static com.github.tomakehurst.wiremock.common.Strings.isNullOrEmpty;
 import static com.github.tomakehurst.wiremock.common.Strings.stringFromBytes;
 import static com.github.tomakehurst.wiremock.common.Urls.splitQuery;
 import static java.nio.charset.StandardCharsets.UTF_8;
-import static java.util.Collections.list;
 
 import com.github.tomakehurst.wiremock.common.Gzip;
 import com.github.tomakehurst.wiremock.http.*;
 import com.github.tomakehurst.wiremock.http.multipart.PartParser;
 import com.github.tomakehurst.wiremock.jetty.JettyUtils;
 import com.google.common.base.Suppliers;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Maps;
 import jakarta.servlet.http.HttpServletRequest;
 import java.io.IOException;
 import java.nio.charset.Charset;
@@ -46,11 +43,13 @@ public class WireMockHttpServletRequestAdapter implements Request {
   private final HttpServletRequest request;
   private byte[] cachedBody;
   private final Supplier<Map<String, QueryParameter>> cachedQueryParams;
+  private final Supplier<Map<String, FormParameter>> cachedFormParameters;
+  private final Supplier<HttpHeaders> cachedHeaders;
+  private final Supplier<Map<String, Cookie>> cachedCookies;
+  private final Supplier<Collection<Part>> cachedMultiparts;
 
-  private final Map<String, FormParameter> cachedFormParameters;
   private final boolean browserProxyingEnabled;
   private final String urlPrefixToRemove;
-  private Collection<Part> cachedMultiparts;
 
   public WireMockHttpServletRequestAdapter(
       HttpServletRequest request,
@@ -62,8 +61,10 @@ public class WireMockHttpServletRequestAdapter implements Request {
     this.browserProxyingEnabled = browserProxyingEnabled;
 
     cachedQueryParams = Suppliers.memoize(() -> splitQuery(request.getQueryString()));
-
-    this.cachedFormParameters = getFormParameters(request);
+    cachedFormParameters = Suppliers.memoize(() -> getFormParameters(request));
+    cachedHeaders = Suppliers.memoize(() -> getHeaders(request));
+    cachedCookies = Suppliers.memoize(() -> getCookies(request));
+    cachedMultiparts = Suppliers.memoize(() -> PartParser.parseFrom(this));
 
     if (multipartRequestConfigurer != null) {
       multipartRequestConfigurer.configure(request);
@@ -165,21 +166,13 @@ public class WireMockHttpServletRequestAdapter implements Request {
 
   @Override
   public String getHeader(String key) {
-    return request.getHeader(key); // case-insensitive per javadoc
+    HttpHeader header = header(key);
+    return header.isPresent() ? header.firstValue() : null;
   }
 
   @Override
   public HttpHeader header(String key) {
-    if (request.getHeader(key) == null) {
-      return HttpHeader.absent(key);
-    } else {
-      List<String> valueList = list(request.getHeaders(key));
-      if (valueList.isEmpty()) {
-        return HttpHeader.empty(key);
-      }
-
-      return new HttpHeader(key, valueList);
-    }
+    return cachedHeaders.get().getHeader(key);
   }
 
   @Override
@@ -195,10 +188,14 @@ public class WireMockHttpServletRequestAdapter implements Request {
 
   @Override
   public HttpHeaders getHeaders() {
+    return cachedHeaders.get();
+  }
+
+  private static HttpHeaders getHeaders(HttpServletRequest request) {
     if (request instanceof org.eclipse.jetty.server.Request) {
       return getHeadersLinear((org.eclipse.jetty.server.Request) request);
     } else {
-      return getHeadersQuadratic();
+      return getHeadersQuadratic(request);
     }
   }
 
@@ -210,10 +207,15 @@ public class WireMockHttpServletRequestAdapter implements Request {
     return new HttpHeaders(headers);
   }
 
-  private HttpHeaders getHeadersQuadratic() {
+  private static HttpHeaders getHeadersQuadratic(HttpServletRequest request) {
     List<HttpHeader> headerList = new ArrayList<>();
-    for (String key : getAllHeaderKeys()) {
-      headerList.add(header(key));
+    // The container looks up each name case-insensitively, so a name listed again in another case
+    // would repeat its values
+    Set<String> keys = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+    for (String key : Collections.list(request.getHeaderNames())) {
+      if (keys.add(key)) {
+        headerList.add(new HttpHeader(key, Collections.list(request.getHeaders(key))));
+      }
     }
 
     return new HttpHeaders(headerList);
@@ -232,16 +234,23 @@ public class WireMockHttpServletRequestAdapter implements Request {
 
   @Override
   public Map<String, Cookie> getCookies() {
-    ImmutableMultimap.Builder<String, String> builder = ImmutableMultimap.builder();
+    return cachedCookies.get();
+  }
 
+  private static Map<String, Cookie> getCookies(HttpServletRequest request) {
     jakarta.servlet.http.Cookie[] cookies =
         getFirstNonNull(request.getCookies(), new jakarta.servlet.http.Cookie[0]);
+    Map<String, List<String>> valuesByName = new LinkedHashMap<>();
     for (jakarta.servlet.http.Cookie cookie : cookies) {
-      builder.put(cookie.getName(), cookie.getValue());
+      valuesByName
+          .computeIfAbsent(cookie.getName(), name -> new ArrayList<>())
+          .add(cookie.getValue());
     }
 
-    return Maps.transformValues(
-        builder.build().asMap(), input -> new Cookie(null, List.copyOf(input)));
+    Map<String, Cookie> cookiesByName = new LinkedHashMap<>();
+    valuesByName.forEach(
+        (name, values) -> cookiesByName.put(name, new Cookie(null, List.copyOf(values))));
+    return Collections.unmodifiableMap(cookiesByName);
   }
 
   @Override
@@ -252,12 +261,12 @@ public class WireMockHttpServletRequestAdapter implements Request {
 
   @Override
   public FormParameter formParameter(String key) {
-    return getFirstNonNull(cachedFormParameters.get(key), FormParameter.absent(key));
+    return getFirstNonNull(cachedFormParameters.get().get(key), FormParameter.absent(key));
   }
 
   @Override
   public Map<String, FormParameter> formParameters() {
-    return cachedFormParameters;
+    return cachedFormParameters.get();
   }
 
   @Override
@@ -276,11 +285,8 @@ public class WireMockHttpServletRequestAdapter implements Request {
       return null;
     }
 
-    if (cachedMultiparts == null) {
-      cachedMultiparts = PartParser.parseFrom(this);
-    }
-
-    return (cachedMultiparts.isEmpty()) ? null : cachedMultiparts;
+    Collection<Part> parts = cachedMultiparts.get();
+    return parts.isEmpty() ? null : parts;
   }
 
   @Override
@@ -291,14 +297,12 @@ public class WireMockHttpServletRequestAdapter implements Request {
 
   @Override
   public Part getPart(final String name) {
-    if (isNullOrEmpty(name) || (cachedMultiparts == null && getParts() == null)) {
+    Collection<Part> parts = getParts();
+    if (isNullOrEmpty(name) || parts == null) {
       return null;
     }
 
-    return cachedMultiparts.stream()
-        .filter(part -> name.equals(part.getName()))
-        .findFirst()
-        .orElse(null);
+    return parts.stream().filter(part -> name.equals(part.getName())).findFirst().orElse(null);
   }
 
   @Override
@@ -332,7 +336,7 @@ public class WireMockHttpServletRequestAdapter implements Request {
 
     return formParameterMultimap.entrySet().stream()
         .collect(
-            Collectors.toMap(
+            Collectors.toUnmodifiableMap(
                 Map.Entry::getKey, entry -> new FormParameter(entry.getKey(), entry.getValue())));
   }
 }
@@ -46,6 +46,8 @@ import com.github.tomakehurst.wiremock.security.Authenticator;
 import com.github.tomakehurst.wiremock.security.BasicAuthenticator;
 import com.github.tomakehurst.wiremock.security.NoAuthenticator;
 import com.github.tomakehurst.wiremock.store.DefaultStores;
+import com.github.tomakehurst.wiremock.store.InMemoryStubMappingStore;
+import com.github.tomakehurst.wiremock.store.SnapshotStubMappingStore;
 import com.github.tomakehurst.wiremock.store.Stores;
 import java.io.IOException;
 import java.io.StringWriter;
@@ -106,6 +108,8 @@ public class CommandLineOptions implements Options {
   private static final String ASYNCHRONOUS_RESPONSE_THREADS = "async-response-threads";
   private static final String USE_CHUNKED_ENCODING = "use-chunked-encoding";
   private static final String MAX_TEMPLATE_CACHE_ENTRIES = "max-template-cache-entries";
+  private static final String MATCH_DECISION_CACHE_SIZE = "match-decision-cache-size";
+  private static final String BODY_FILE_CACHE_SIZE = "body-file-cache-size";
   private static final String PERMITTED_SYSTEM_KEYS = "permitted-system-keys";
   private static final String DISABLE_GZIP = "disable-gzip";
   private static final String DISABLE_REQUEST_LOGGING = "disable-request-logging";
@@ -118,6 +122,8 @@ public class CommandLineOptions implements Options {
   private static final String DISABLE_OPTIMIZE_XML_FACTORIES_LOADING =
       "disable-optimize-xml-factories-loading";
   private static final String DISABLE_STRICT_HTTP_HEADERS = "disable-strict-http-headers";
+  private static final String SNAPSHOT_STUB_STORE = "snapshot-stub-store";
+  private static final String PARALLEL_STUB_MATCHING = "parallel-stub-matching";
   private static final String LOAD_RESOURCES_FROM_CLASSPATH = "load-resources-from-classpath";
   private static final String LOGGED_RESPONSE_BODY_SIZE_LIMIT = "logged-response-body-size-limit";
   private static final String ALLOW_PROXY_TARGETS = "allow-proxy-targets";
@@ -144,7 +150,8 @@ public class CommandLineOptions implements Options {
     optionParser
         .accepts(
             PORT,
-            "The port number for the server to listen on (default: 8080). 0 for dynamic port selection.")
+            "The port number for the server to listen on (default: 8080). 0 for dynamic port"
+                + " selection.")
         .withRequiredArg();
     optionParser.accepts(DISABLE_HTTP, "Disable the default HTTP listener.");
     optionParser
@@ -161,6 +168,14 @@ public class CommandLineOptions implements Options {
     optionParser.accepts(
         DISABLE_STRICT_HTTP_HEADERS,
         "Whether to disable strict HTTP header handling of Jetty or not.");
+    optionParser.accepts(
+        SNAPSHOT_STUB_STORE,
+        "Keep stubs in a copy-on-write snapshot, which is faster for suites that add and remove"
+            + " many stubs but slower to match large numbers of them.");
+    optionParser.accepts(
+        PARALLEL_STUB_MATCHING,
+        "Evaluate large sets of candidate stubs in parallel, which can help when there are very"
+            + " many stubs. Has no effect with --snapshot-stub-store.");
     optionParser.accepts(
         REQUIRE_CLIENT_CERT,
         "Make the server require a trusted client certificate to enable a connection");
@@ -175,7 +190,8 @@ public class CommandLineOptions implements Options {
     optionParser
         .accepts(
             HTTPS_TRUSTSTORE,
-            "Path to an alternative truststore for HTTPS client certificates. Must have a password of \"password\".")
+            "Path to an alternative truststore for HTTPS client certificates. Must have a password"
+                + " of \"password\".")
         .requiredIf(REQUIRE_CLIENT_CERT)
         .requiredIf(HTTPS_TRUSTSTORE_PASSWORD)
         .withRequiredArg();
@@ -196,7 +212,8 @@ public class CommandLineOptions implements Options {
     optionParser
         .accepts(
             HTTPS_KEYSTORE,
-            "Path to an alternative keystore for HTTPS. Password is assumed to be \"password\" if not specified.")
+            "Path to an alternative keystore for HTTPS. Password is assumed to be \"password\" if"
+                + " not specified.")
         .requiredIf(HTTPS_KEYSTORE_PASSWORD)
         .withRequiredArg()
         .defaultsTo(getResource(CommandLineOptions.class, "keystore").toString());
@@ -229,7 +246,8 @@ public class CommandLineOptions implements Options {
         ENABLE_BROWSER_PROXYING, "Allow wiremock to be set as a browser's proxy server");
     optionParser.accepts(
         DISABLE_REQUEST_JOURNAL,
-        "Disable the request journal (to avoid heap growth when running wiremock for long periods without reset)");
+        "Disable the request journal (to avoid heap growth when running wiremock for long periods"
+            + " without reset)");
     optionParser.accepts(DISABLE_BANNER, "Disable print banner logo");
     optionParser
         .accepts(
@@ -242,7 +260,8 @@ public class CommandLineOptions implements Options {
     optionParser
         .accepts(
             MAX_ENTRIES_REQUEST_JOURNAL,
-            "Set maximum number of entries in request journal (if enabled) to discard old entries if the log becomes too large. Default: no discard")
+            "Set maximum number of entries in request journal (if enabled) to discard old entries"
+                + " if the log becomes too large. Default: no discard")
         .withRequiredArg();
     optionParser
         .accepts(JETTY_ACCEPTOR_THREAD_COUNT, "Number of Jetty acceptor threads")
@@ -279,7 +298,8 @@ public class CommandLineOptions implements Options {
     optionParser
         .accepts(
             ADMIN_API_BASIC_AUTH,
-            "Require HTTP Basic authentication for admin API calls with the supplied credentials in username:password format")
+            "Require HTTP Basic authentication for admin API calls with the supplied credentials in"
+                + " username:password format")
         .withRequiredArg();
     optionParser.accepts(
         ADMIN_API_REQUIRE_HTTPS, "Require HTTPS to be used to access the admin API");
@@ -294,25 +314,43 @@ public class CommandLineOptions implements Options {
     optionParser
         .accepts(
             USE_CHUNKED_ENCODING,
-            "Whether to use Transfer-Encoding: chunked in responses. Can be set to always, never or body_file.")
+            "Whether to use Transfer-Encoding: chunked in responses. Can be set to always, never or"
+                + " body_file.")
         .withRequiredArg()
         .defaultsTo("always");
     optionParser
         .accepts(
             MAX_TEMPLATE_CACHE_ENTRIES,
-            "The maximum number of response template fragments that can be cached. Only has any effect when templating is enabled. Defaults to no limit.")
+            "The maximum number of response template fragments that can be cached. Only has any"
+                + " effect when templating is enabled. Defaults to no limit.")
         .withOptionalArg();
+    optionParser
+        .accepts(
+            MATCH_DECISION_CACHE_SIZE,
+            "The number of distinct requests for which to remember the matching stub, while no stub"
+                + " depends on more than the method, URL, headers and cookies. Defaults to 0, which"
+                + " disables the cache.")
+        .withRequiredArg();
+    optionParser
+        .accepts(
+            BODY_FILE_CACHE_SIZE,
+            "The number of bytes of body files to keep in memory. A file is read again when it"
+                + " changes on disk. Defaults to 0, which disables the cache.")
+        .withRequiredArg();
     optionParser
         .accepts(
             PERMITTED_SYSTEM_KEYS,
-            "A list of case-insensitive regular expressions for names of permitted system properties and environment vars. Only has any effect when templating is enabled. Defaults to no limit.")
+            "A list of case-insensitive regular expressions for names of permitted system"
+                + " properties and environment vars. Only has any effect when templating is"
+                + " enabled. Defaults to no limit.")
         .withOptionalArg()
         .ofType(String.class)
         .withValuesSeparatedBy(",");
     optionParser.accepts(DISABLE_GZIP, "Disable gzipping of request and response bodies");
     optionParser.accepts(
         DISABLE_REQUEST_LOGGING,
-        "Disable logging of stub requests and responses to the notifier. Useful when performance testing.");
+        "Disable logging of stub requests and responses to the notifier. Useful when performance"
+            + " testing.");
     optionParser.accepts(
         ENABLE_STUB_CORS, "Enable automatic sending of CORS headers with stub responses.");
     optionParser
@@ -330,7 +368,9 @@ public class CommandLineOptions implements Options {
     optionParser
         .accepts(
             HTTPS_CA_KEYSTORE,
-            "Path to an alternative keystore containing a Certificate Authority private key & certificate for generating certificates when proxying HTTPS. Password is assumed to be \"password\" if not specified.")
+            "Path to an alternative keystore containing a Certificate Authority private key &"
+                + " certificate for generating certificates when proxying HTTPS. Password is"
+                + " assumed to be \"password\" if not specified.")
         .availableIf(ENABLE_BROWSER_PROXYING)
         .withRequiredArg()
         .defaultsTo(DEFAULT_CA_KEYSTORE_PATH);
@@ -356,17 +396,22 @@ public class CommandLineOptions implements Options {
     optionParser
         .accepts(
             LOGGED_RESPONSE_BODY_SIZE_LIMIT,
-            "Maximum size for response bodies stored in the request journal beyond which truncation will be applied")
+            "Maximum size for response bodies stored in the request journal beyond which truncation"
+                + " will be applied")
         .withRequiredArg();
     optionParser
         .accepts(
             ALLOW_PROXY_TARGETS,
-            "Comma separated list of IP addresses, IP ranges (hyphenated) and domain name wildcards that can be proxied to/recorded from. Is evaluated before the list of denied addresses.")
+            "Comma separated list of IP addresses, IP ranges (hyphenated) and domain name wildcards"
+                + " that can be proxied to/recorded from. Is evaluated before the list of denied"
+                + " addresses.")
         .withRequiredArg();
     optionParser
         .accepts(
             DENY_PROXY_TARGETS,
-            "Comma separated list of IP addresses, IP ranges (hyphenated) and domain name wildcards that cannot be proxied to/recorded from. Is evaluated after the list of allowed addresses.")
+            "Comma separated list of IP addresses, IP ranges (hyphenated) and domain name wildcards"
+                + " that cannot be proxied to/recorded from. Is evaluated after the list of allowed"
+                + " addresses.")
         .withRequiredArg();
     optionParser
         .accepts(PROXY_TIMEOUT, "Timeout in milliseconds for requests to proxy")
@@ -391,7 +436,15 @@ public class CommandLineOptions implements Options {
       fileSource = new SingleRootFileSource((String) optionSet.valueOf(ROOT_DIR));
     }
 
-    stores = new DefaultStores(fileSource);
+    stores =
+        new DefaultStores(
+            fileSource,
+            optionSet.has(SNAPSHOT_STUB_STORE)
+                ? new SnapshotStubMappingStore()
+                : new InMemoryStubMappingStore(optionSet.has(PARALLEL_STUB_MATCHING)),
+            optionSet.has(BODY_FILE_CACHE_SIZE)
+                ? Long.parseLong((String) optionSet.valueOf(BODY_FILE_CACHE_SIZE))
+                : 0);
 
     if (optionSet.has(PROXY_PASS_THROUGH)) {
       GlobalSettings newSettings =
@@ -437,7 +490,8 @@ public class CommandLineOptions implements Options {
             .anyMatch(part -> !part.contains("{{{") || !part.contains("}}}"));
     if (handlebarIdentifierMissed) {
       throw new IllegalArgumentException(
-          "Format for filename template should be contain handlebar value. Please check format one more time");
+          "Format for filename template should be contain handlebar value. Please check format one"
+              + " more time");
     }
   }
 
@@ -982,6 +1036,13 @@ public class CommandLineOptions implements Options {
     return true;
   }
 
+  @Override
+  public long getMatchDecisionCacheSize() {
+    return optionSet.has(MATCH_DECISION_CACHE_SIZE)
+        ? Long.parseLong((String) optionSet.valueOf(MATCH_DECISION_CACHE_SIZE))
+        : 0;
+  }
+
   private boolean isAsynchronousResponseEnabled() {
     return optionSet.has(ASYNCHRONOUS_RESPONSE_ENABLED)
         && Boolean.parseBoolean((String) optionSet.valueOf(ASYNCHRONOUS_RESPONSE_ENABLED));
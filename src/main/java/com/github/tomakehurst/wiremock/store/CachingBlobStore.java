@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import com.github.tomakehurst.wiremock.common.InputStreamSource;
+import com.github.tomakehurst.wiremock.common.StreamSources;
+import com.github.tomakehurst.wiremock.common.StreamSources.FileInputStreamSource;
+import com.github.tomakehurst.wiremock.store.files.PathBased;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import org.wiremock.annotations.Beta;
+
+/**
+ * Keeps the contents of blobs in memory, up to a total number of bytes, so that a body file served
+ * repeatedly is read once rather than on every request. The least recently used blobs are evicted
+ * first.
+ *
+ * <p>Blobs written through this store are invalidated as they are written. A blob held in a file is
+ * also re-read whenever the file's modification time or size changes, so files edited on disk are
+ * picked up. Any other blob, such as one in a jar, is treated as unchanging.
+ *
+ * <p>A cached blob's stream source is the same object for as long as its contents are, so callers
+ * may keep anything they derive from the contents against it.
+ */
+@Beta(justification = "Externalized State API: https://github.com/wiremock/wiremock/issues/2144")
+public class CachingBlobStore implements BlobStore, PathBased {
+
+  private static final Object UNCHANGING = new Object();
+
+  private final BlobStore delegate;
+  private final long maxBytes;
+  private final Cache<String, Entry> cache;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public CachingBlobStore(BlobStore delegate, long maxBytes) {
+    this.delegate = delegate;
+    this.maxBytes = maxBytes;
+    this.cache =
+        CacheBuilder.newBuilder()
+            // One segment, so that the whole budget is available to each blob
+            .concurrencyLevel(1)
+            .maximumWeight(maxBytes)
+            .weigher((String key, Entry entry) -> entry.bytes.length)
+            .recordStats()
+            .build();
+  }
+
+  /** The most bytes of blob contents held in memory at once. */
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  @Override
+  public Optional<InputStream> getStream(String key) {
+    final Entry entry = cached(key);
+    return entry != null
+        ? Optional.of(new ByteArrayInputStream(entry.bytes))
+        : delegate.getStream(key);
+  }
+
+  @Override
+  public InputStreamSource getStreamSource(String key) {
+    final Entry entry = cached(key);
+    return entry != null ? entry.source : delegate.getStreamSource(key);
+  }
+
+  @Override
+  public Optional<byte[]> get(String key) {
+    final Entry entry = cached(key);
+    return entry != null ? Optional.of(entry.bytes.clone()) : delegate.get(key);
+  }
+
+  /** The cached contents of the blob, read afresh if they are stale, or null if not cacheable. */
+  private Entry cached(String key) {
+    final Object version = versionOf(delegate.getStreamSource(key));
+    if (version == null) {
+      return null;
+    }
+
+    final Entry entry = cache.getIfPresent(key);
+    if (entry != null && entry.version.equals(version)) {
+      hits.increment();
+      return entry;
+    }
+
+    misses.increment();
+    final byte[] bytes = delegate.get(key).orElse(null);
+    if (bytes == null || bytes.length > maxBytes) {
+      cache.invalidate(key);
+      return null;
+    }
+
+    final Entry fresh = new Entry(bytes, version);
+    cache.put(key, fresh);
+    return fresh;
+  }
+
+  private static Object versionOf(InputStreamSource source) {
+    if (source instanceof FileInputStreamSource) {
+      return ((FileInputStreamSource) source).version();
+    }
+
+    return UNCHANGING;
+  }
+
+  @Override
+  public Stream<String> getAllKeys() {
+    return delegate.getAllKeys();
+  }
+
+  @Override
+  public void put(String key, byte[] content) {
+    delegate.put(key, content);
+    cache.invalidate(key);
+  }
+
+  @Override
+  public void remove(String key) {
+    delegate.remove(key);
+    cache.invalidate(key);
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+    cache.invalidateAll();
+  }
+
+  @Override
+  public String getPath() {
+    return delegate instanceof PathBased ? ((PathBased) delegate).getPath() : "";
+  }
+
+  /** Hits, misses, including stale blobs that were re-read, and evictions so far. */
+  public CacheStats getStats() {
+    return new CacheStats(hits.sum(), misses.sum(), 0, 0, 0, cache.stats().evictionCount());
+  }
+
+  private static class Entry {
+    private final byte[] bytes;
+    private final Object version;
+    private final InputStreamSource source;
+
+    Entry(byte[] bytes, Object version) {
+      this.bytes = bytes;
+      this.version = version;
+      this.source = StreamSources.forBytes(bytes);
+    }
+  }
+}
@@ -15,8 +15,12 @@
  */
 package com.github.tomakehurst.wiremock.store;
 
+import static com.github.tomakehurst.wiremock.core.WireMockApp.FILES_ROOT;
+
 import com.github.tomakehurst.wiremock.common.FileSource;
 import com.github.tomakehurst.wiremock.store.files.FileSourceBlobStore;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import org.wiremock.annotations.Beta;
 
 @Beta(justification = "Externalized State API: https://github.com/wiremock/wiremock/issues/2144")
@@ -30,13 +34,36 @@ public class DefaultStores implements Stores {
 
   private final ScenariosStore scenariosStore;
 
+  private final Supplier<BlobStore> cachingFilesBlobStore;
+
   public DefaultStores(FileSource fileRoot) {
+    this(fileRoot, new InMemoryStubMappingStore());
+  }
+
+  public DefaultStores(FileSource fileRoot, StubMappingStore stubMappingStore) {
+    this(fileRoot, stubMappingStore, 0);
+  }
+
+  /**
+   * @param filesCacheMaxBytes how many bytes of body files to keep in memory, or zero to read them
+   *     afresh every time
+   */
+  public DefaultStores(
+      FileSource fileRoot, StubMappingStore stubMappingStore, long filesCacheMaxBytes) {
     this.fileRoot = fileRoot;
 
-    this.stubMappingStore = new InMemoryStubMappingStore();
+    this.stubMappingStore = stubMappingStore;
     this.requestJournalStore = new InMemoryRequestJournalStore();
     this.settingsStore = new InMemorySettingsStore();
     this.scenariosStore = new InMemoryScenariosStore();
+
+    this.cachingFilesBlobStore =
+        filesCacheMaxBytes > 0
+            ? Suppliers.memoize(
+                () ->
+                    new CachingBlobStore(
+                        new FileSourceBlobStore(fileRoot.child(FILES_ROOT)), filesCacheMaxBytes))
+            : null;
   }
 
   @Override
@@ -66,6 +93,10 @@ public class DefaultStores implements Stores {
 
   @Override
   public BlobStore getBlobStore(String name) {
+    if (cachingFilesBlobStore != null && FILES_ROOT.equals(name)) {
+      return cachingFilesBlobStore.get();
+    }
+
     return new FileSourceBlobStore(fileRoot.child(name));
   }
 
@@ -15,45 +15,208 @@
  */
 package com.github.tomakehurst.wiremock.store;
 
+import static java.util.stream.Collectors.toList;
+
+import com.github.tomakehurst.wiremock.common.Pair;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
+import com.github.tomakehurst.wiremock.stubbing.Scenarios;
 import com.github.tomakehurst.wiremock.stubbing.SortedConcurrentMappingSet;
+import com.github.tomakehurst.wiremock.stubbing.StubImportBatch;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.stubbing.StubMappingIndex;
+import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.wiremock.annotations.Beta;
 
+/**
+ * Holds stubs in a {@link SortedConcurrentMappingSet}, with a {@link StubMappingIndex} to narrow
+ * down the stubs evaluated for each request and a map to look stubs up by ID. Imports build all
+ * three afresh and swap them in together, so requests see either none or all of an import.
+ *
+ * <p>Optionally, large candidate sets can be evaluated in parallel by a {@link
+ * ParallelStubMatcher}, which suits very large numbers of stubs that the index cannot tell apart.
+ */
 @Beta(justification = "Externalized State API: https://github.com/wiremock/wiremock/issues/2144")
 public class InMemoryStubMappingStore implements StubMappingStore {
 
-  private final SortedConcurrentMappingSet mappings = new SortedConcurrentMappingSet();
+  private final ParallelStubMatcher parallelMatcher;
+
+  private volatile Contents contents = new Contents(new SortedConcurrentMappingSet());
+
+  public InMemoryStubMappingStore() {
+    this(false);
+  }
+
+  public InMemoryStubMappingStore(boolean parallelMatching) {
+    this.parallelMatcher =
+        parallelMatching
+            ? new ParallelStubMatcher(
+                ForkJoinPool.commonPool(), ParallelStubMatcher.DEFAULT_CHUNK_SIZE)
+            : null;
+  }
 
   @Override
   public Optional<StubMapping> get(UUID id) {
-    return mappings.stream().filter(stubMapping -> stubMapping.getId().equals(id)).findFirst();
+    return id != null ? Optional.ofNullable(contents.byId.get(id)) : Optional.empty();
   }
 
   @Override
-  public void remove(StubMapping stubMapping) {
-    mappings.remove(stubMapping);
+  public synchronized void remove(StubMapping stubMapping) {
+    contents.remove(stubMapping);
   }
 
   @Override
-  public void clear() {
-    mappings.clear();
+  public synchronized void clear() {
+    contents = new Contents(contents.mappings.emptyCopy());
   }
 
   @Override
   public Stream<StubMapping> getAll() {
-    return mappings.stream();
+    return contents.mappings.stream();
+  }
+
+  @Override
+  public Stream<StubMapping> findAllMatchingRequest(
+      Request request,
+      Map<String, RequestMatcherExtension> customMatchers,
+      Consumer<SubEvent> subEventConsumer) {
+    return matching(
+        contents.index.findCandidates(request), request, customMatchers, subEventConsumer);
+  }
+
+  @Override
+  public Stream<StubMapping> findAllMatchingRequest(
+      Request request,
+      Map<String, RequestMatcherExtension> customMatchers,
+      Consumer<SubEvent> subEventConsumer,
+      Scenarios scenarios) {
+    return matching(
+        contents.index.findCandidates(request, scenarios),
+        request,
+        customMatchers,
+        subEventConsumer);
+  }
+
+  private Stream<StubMapping> matching(
+      Stream<StubMapping> candidates,
+      Request request,
+      Map<String, RequestMatcherExtension> customMatchers,
+      Consumer<SubEvent> subEventConsumer) {
+    if (parallelMatcher != null) {
+      return parallelMatcher.findAllMatching(
+          candidates.collect(toList()), request, customMatchers, subEventConsumer);
+    }
+
+    return candidates
+        .map(
+            stubMapping ->
+                Pair.pair(stubMapping, stubMapping.getRequest().match(request, customMatchers)))
+        .filter(
+            stubAndMatchResult -> {
+              final boolean isExactMatch = stubAndMatchResult.b.isExactMatch();
+              stubAndMatchResult.b.getSubEvents().forEach(subEventConsumer);
+              return isExactMatch;
+            })
+        .map(stubAndMatchResult -> stubAndMatchResult.a);
   }
 
   @Override
-  public void add(StubMapping stubMapping) {
-    mappings.add(stubMapping);
+  public synchronized void add(StubMapping stubMapping) {
+    contents.add(stubMapping);
   }
 
   @Override
-  public void replace(StubMapping existing, StubMapping updated) {
-    mappings.replace(existing, updated);
+  public synchronized void replace(StubMapping existing, StubMapping updated) {
+    contents.replace(existing, updated);
+  }
+
+  @Override
+  public synchronized void importMappings(StubImportBatch batch) {
+    final Set<StubMapping> replacedOrRemoved = Collections.newSetFromMap(new IdentityHashMap<>());
+    batch.getEdited().forEach(edit -> replacedOrRemoved.add(edit.getExisting()));
+    replacedOrRemoved.addAll(batch.getRemoved());
+
+    final Contents current = contents;
+    final Contents next = new Contents(current.mappings.emptyCopy());
+    for (StubMapping existing : current.mappings) {
+      if (!replacedOrRemoved.contains(existing)) {
+        next.addKeepingInsertionIndex(existing);
+      }
+    }
+    batch.getEdited().forEach(edit -> next.addKeepingInsertionIndex(edit.getUpdated()));
+    batch.getAdded().forEach(next::add);
+
+    contents = next;
+  }
+
+  private static class Contents {
+
+    private static final Comparator<StubMapping> SORT_ORDER =
+        SortedConcurrentMappingSet.sortedByPriorityThenReverseInsertionOrder();
+
+    private final SortedConcurrentMappingSet mappings;
+    private final StubMappingIndex index = new StubMappingIndex();
+    private final Map<UUID, StubMapping> byId = new ConcurrentHashMap<>();
+
+    private Contents(SortedConcurrentMappingSet mappings) {
+      this.mappings = mappings;
+    }
+
+    void add(StubMapping stubMapping) {
+      mappings.add(stubMapping);
+      index.add(stubMapping);
+      mapId(stubMapping);
+    }
+
+    void addKeepingInsertionIndex(StubMapping stubMapping) {
+      mappings.addKeepingInsertionIndex(stubMapping);
+      index.add(stubMapping);
+      mapId(stubMapping);
+    }
+
+    void replace(StubMapping existing, StubMapping updated) {
+      if (mappings.replace(existing, updated)) {
+        index.remove(existing);
+        index.add(updated);
+        unmapId(existing);
+        mapId(updated);
+      }
+    }
+
+    void remove(StubMapping stubMapping) {
+      for (StubMapping removed : mappings.removeMatching(stubMapping)) {
+        index.remove(removed);
+        unmapId(removed);
+      }
+    }
+
+    // Where several stubs share an ID, the first in priority order is returned
+    private void mapId(StubMapping stubMapping) {
+      if (stubMapping.getId() != null) {
+        byId.merge(
+            stubMapping.getId(),
+            stubMapping,
+            (one, two) -> SORT_ORDER.compare(one, two) <= 0 ? one : two);
+      }
+    }
+
+    private void unmapId(StubMapping stubMapping) {
+      if (stubMapping.getId() != null && byId.remove(stubMapping.getId(), stubMapping)) {
+        mappings.stream()
+            .filter(other -> stubMapping.getId().equals(other.getId()))
+            .forEach(this::mapId);
+      }
+    }
   }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.matching.MatchResult;
+import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Evaluates a priority ordered list of candidate stubs in chunks on a ForkJoin pool. Each chunk
+ * stops at its first exact match, and gives up on whatever it has left once an earlier chunk has
+ * found one, since only the first match can be served. The results are then replayed in order, so
+ * the stubs returned and the sub-events reported are exactly those a sequential scan would give.
+ */
+class ParallelStubMatcher {
+
+  static final int DEFAULT_CHUNK_SIZE = 256;
+
+  private final ForkJoinPool pool;
+  private final int chunkSize;
+
+  ParallelStubMatcher(ForkJoinPool pool, int chunkSize) {
+    this.pool = pool;
+    this.chunkSize = chunkSize;
+  }
+
+  Stream<StubMapping> findAllMatching(
+      List<StubMapping> candidates,
+      Request request,
+      Map<String, RequestMatcherExtension> customMatchers,
+      Consumer<SubEvent> subEventConsumer) {
+    final Evaluation evaluation = new Evaluation(candidates, request, customMatchers);
+    if (candidates.size() > chunkSize) {
+      evaluation.evaluateInParallel();
+    }
+
+    return IntStream.range(0, candidates.size())
+        .mapToObj(
+            i -> {
+              final MatchResult result = evaluation.resultAt(i);
+              final boolean isExactMatch = result.isExactMatch();
+              result.getSubEvents().forEach(subEventConsumer);
+              return isExactMatch ? candidates.get(i) : null;
+            })
+        .filter(Objects::nonNull);
+  }
+
+  private class Evaluation {
+
+    private final List<StubMapping> candidates;
+    private final Request request;
+    private final Map<String, RequestMatcherExtension> customMatchers;
+    private final MatchResult[] results;
+    private final RuntimeException[] failures;
+
+    // The lowest position at which a sequential scan would stop, by matching or by failing
+    private final AtomicInteger firstStop = new AtomicInteger(Integer.MAX_VALUE);
+
+    private Evaluation(
+        List<StubMapping> candidates,
+        Request request,
+        Map<String, RequestMatcherExtension> customMatchers) {
+      this.candidates = candidates;
+      this.request = request;
+      this.customMatchers = customMatchers;
+      this.results = new MatchResult[candidates.size()];
+      this.failures = new RuntimeException[candidates.size()];
+    }
+
+    void evaluateInParallel() {
+      final int chunkCount = (candidates.size() + chunkSize - 1) / chunkSize;
+      pool.submit(() -> IntStream.range(0, chunkCount).parallel().forEach(this::evaluateChunk))
+          .join();
+    }
+
+    private void evaluateChunk(int chunk) {
+      final int end = Math.min(candidates.size(), (chunk + 1) * chunkSize);
+      for (int i = chunk * chunkSize; i < end && i < firstStop.get(); i++) {
+        try {
+          results[i] = candidates.get(i).getRequest().match(request, customMatchers);
+          if (results[i].isExactMatch()) {
+            firstStop.accumulateAndGet(i, Math::min);
+            return;
+          }
+        } catch (RuntimeException e) {
+          failures[i] = e;
+          firstStop.accumulateAndGet(i, Math::min);
+          return;
+        }
+      }
+    }
+
+    MatchResult resultAt(int i) {
+      if (failures[i] != null) {
+        throw failures[i];
+      }
+
+      if (results[i] == null) {
+        results[i] = candidates.get(i).getRequest().match(request, customMatchers);
+      }
+
+      return results[i];
+    }
+  }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.stubbing.SortedConcurrentMappingSet;
+import com.github.tomakehurst.wiremock.stubbing.StubImportBatch;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.wiremock.annotations.Beta;
+
+/**
+ * Keeps stubs in an immutable array sorted by priority then reverse insertion order, which readers
+ * iterate without locking. Writers build a new array and publish it atomically. They find the stubs
+ * they change through maps keyed on stub ID and on request pattern, and their place in the array by
+ * binary search, so no write scans the stubs. The ID map also serves lookups.
+ *
+ * <p>Each write still costs a copy of the array, and every stub is visited when matching, so this
+ * suits test suites that create, look up and delete stubs far more than they serve requests. Where
+ * large numbers of stubs are served, {@link InMemoryStubMappingStore} and its URL index will be
+ * faster.
+ */
+@Beta(justification = "Externalized State API: https://github.com/wiremock/wiremock/issues/2144")
+public class SnapshotStubMappingStore implements StubMappingStore {
+
+  private static final StubMapping[] EMPTY = new StubMapping[0];
+
+  private final Comparator<StubMapping> comparator =
+      SortedConcurrentMappingSet.sortedByPriorityThenReverseInsertionOrder();
+  private final AtomicLong insertionCount = new AtomicLong();
+  // Stubs sharing an ID are kept in sort order, and each list is replaced rather than changed
+  private final Map<UUID, List<StubMapping>> byId = new ConcurrentHashMap<>();
+  // Only used by writers, which hold the lock
+  private final Map<RequestPattern, List<StubMapping>> byRequest = new HashMap<>();
+
+  private volatile StubMapping[] snapshot = EMPTY;
+
+  @Override
+  public Stream<StubMapping> getAll() {
+    return Arrays.stream(snapshot);
+  }
+
+  @Override
+  public Optional<StubMapping> get(UUID id) {
+    final List<StubMapping> withId = id != null ? byId.get(id) : null;
+    return withId != null ? Optional.of(withId.get(0)) : Optional.empty();
+  }
+
+  @Override
+  public synchronized void add(StubMapping stubMapping) {
+    stubMapping.setInsertionIndex(insertionCount.getAndIncrement());
+    snapshot = inserting(snapshot, stubMapping);
+    index(stubMapping);
+  }
+
+  @Override
+  public synchronized void replace(StubMapping existing, StubMapping updated) {
+    final int index = Arrays.binarySearch(snapshot, existing, comparator);
+    if (index < 0) {
+      return;
+    }
+
+    final StubMapping removed = snapshot[index];
+    snapshot = inserting(removingAt(snapshot, index), updated);
+
+    unindex(removed);
+    index(updated);
+  }
+
+  @Override
+  public synchronized void remove(StubMapping stubMapping) {
+    final UUID id = stubMapping.getId();
+    List<StubMapping> toRemove = id != null ? byId.get(id) : null;
+    if (toRemove == null) {
+      toRemove = byRequest.get(stubMapping.getRequest());
+    }
+
+    if (toRemove != null) {
+      removeAll(List.copyOf(toRemove));
+    }
+  }
+
+  @Override
+  public synchronized void clear() {
+    snapshot = EMPTY;
+    byId.clear();
+    byRequest.clear();
+  }
+
+  @Override
+  public synchronized void importMappings(StubImportBatch batch) {
+    final Set<StubMapping> replacedOrRemoved = Collections.newSetFromMap(new IdentityHashMap<>());
+    batch.getEdited().forEach(edit -> replacedOrRemoved.add(edit.getExisting()));
+    replacedOrRemoved.addAll(batch.getRemoved());
+
+    final List<StubMapping> next = new ArrayList<>(snapshot.length + batch.getAdded().size());
+    for (StubMapping existing : snapshot) {
+      if (!replacedOrRemoved.contains(existing)) {
+        next.add(existing);
+      }
+    }
+    batch.getEdited().forEach(edit -> next.add(edit.getUpdated()));
+    for (StubMapping added : batch.getAdded()) {
+      added.setInsertionIndex(insertionCount.getAndIncrement());
+      next.add(added);
+    }
+    next.sort(comparator);
+
+    snapshot = next.toArray(EMPTY);
+
+    replacedOrRemoved.forEach(this::unindex);
+    batch.getEdited().forEach(edit -> index(edit.getUpdated()));
+    batch.getAdded().forEach(this::index);
+  }
+
+  private void removeAll(List<StubMapping> stubMappings) {
+    final int[] indexes = new int[stubMappings.size()];
+    int found = 0;
+    for (StubMapping stubMapping : stubMappings) {
+      final int index = Arrays.binarySearch(snapshot, stubMapping, comparator);
+      if (index >= 0) {
+        indexes[found++] = index;
+        unindex(snapshot[index]);
+      }
+    }
+
+    if (found > 0) {
+      snapshot = removingAt(snapshot, Arrays.copyOf(indexes, found));
+    }
+  }
+
+  private void index(StubMapping stubMapping) {
+    if (stubMapping.getId() != null) {
+      byId.compute(
+          stubMapping.getId(),
+          (id, withId) -> {
+            final List<StubMapping> updated =
+                withId != null ? new ArrayList<>(withId) : new ArrayList<>(1);
+            final int searchResult = Collections.binarySearch(updated, stubMapping, comparator);
+            updated.add(searchResult >= 0 ? searchResult : -(searchResult + 1), stubMapping);
+            return List.copyOf(updated);
+          });
+    }
+
+    byRequest
+        .computeIfAbsent(stubMapping.getRequest(), request -> new ArrayList<>(1))
+        .add(stubMapping);
+  }
+
+  private void unindex(StubMapping stubMapping) {
+    if (stubMapping.getId() != null) {
+      byId.computeIfPresent(
+          stubMapping.getId(),
+          (id, withId) -> {
+            final List<StubMapping> updated = new ArrayList<>(withId);
+            updated.removeIf(other -> other == stubMapping);
+            return updated.isEmpty() ? null : List.copyOf(updated);
+          });
+    }
+
+    byRequest.computeIfPresent(
+        stubMapping.getRequest(),
+        (request, withRequest) -> {
+          withRequest.removeIf(other -> other == stubMapping);
+          return withRequest.isEmpty() ? null : withRequest;
+        });
+  }
+
+  private StubMapping[] inserting(StubMapping[] current, StubMapping stubMapping) {
+    final int searchResult = Arrays.binarySearch(current, stubMapping, comparator);
+    final int position = searchResult >= 0 ? searchResult : -(searchResult + 1);
+
+    final StubMapping[] next = new StubMapping[current.length + 1];
+    System.arraycopy(current, 0, next, 0, position);
+    next[position] = stubMapping;
+    System.arraycopy(current, position, next, position + 1, current.length - position);
+    return next;
+  }
+
+  private static StubMapping[] removingAt(StubMapping[] current, int... indexes) {
+    Arrays.sort(indexes);
+    final StubMapping[] next = new StubMapping[current.length - indexes.length];
+    int from = 0;
+    int to = 0;
+    for (int index : indexes) {
+      System.arraycopy(current, from, next, to, index - from);
+      to += index - from;
+      from = index + 1;
+    }
+    System.arraycopy(current, from, next, to, current.length - from);
+    return next;
+  }
+}
@@ -18,6 +18,8 @@ package com.github.tomakehurst.wiremock.store;
 import com.github.tomakehurst.wiremock.common.Pair;
 import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
+import com.github.tomakehurst.wiremock.stubbing.Scenarios;
+import com.github.tomakehurst.wiremock.stubbing.StubImportBatch;
 import com.github.tomakehurst.wiremock.stubbing.StubMapping;
 import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import java.util.*;
@@ -40,11 +42,32 @@ public interface StubMappingStore {
         .map(
             stubMapping ->
                 Pair.pair(stubMapping, stubMapping.getRequest().match(request, customMatchers)))
-        .peek(stubAndMatchResult -> stubAndMatchResult.b.getSubEvents().forEach(subEventConsumer))
-        .filter(stubAndMatchResult -> stubAndMatchResult.b.isExactMatch())
+        .filter(
+            stubAndMatchResult -> {
+              final boolean isExactMatch = stubAndMatchResult.b.isExactMatch();
+              stubAndMatchResult.b.getSubEvents().forEach(subEventConsumer);
+              return isExactMatch;
+            })
         .map(stubAndMatchResult -> stubAndMatchResult.a);
   }
 
+  /**
+   * Finds the stubs matching the request that can be served given the current state of each
+   * scenario. Stores that can avoid evaluating stubs requiring a scenario to be in some other state
+   * should override this, as by default they are matched and then filtered out.
+   */
+  default Stream<StubMapping> findAllMatchingRequest(
+      Request request,
+      Map<String, RequestMatcherExtension> customMatchers,
+      Consumer<SubEvent> subEventConsumer,
+      Scenarios scenarios) {
+    return findAllMatchingRequest(request, customMatchers, subEventConsumer)
+        .filter(
+            stubMapping ->
+                stubMapping.isIndependentOfScenarioState()
+                    || scenarios.mappingMatchesScenarioState(stubMapping));
+  }
+
   void add(StubMapping stub);
 
   void replace(StubMapping existing, StubMapping updated);
@@ -52,4 +75,17 @@ public interface StubMappingStore {
   void remove(StubMapping stubMapping);
 
   void clear();
+
+  /**
+   * Applies every change in an import. Stores that can should build their new contents off to the
+   * side and swap them in at once, so that requests never see a partly applied import. Edited stubs
+   * arrive with the insertion index of the stub they replace.
+   */
+  default void importMappings(StubImportBatch batch) {
+    for (StubImportBatch.Edit edit : batch.getEdited()) {
+      replace(edit.getExisting(), edit.getUpdated());
+    }
+    batch.getAdded().forEach(this::add);
+    batch.getRemoved().forEach(this::remove);
+  }
 }
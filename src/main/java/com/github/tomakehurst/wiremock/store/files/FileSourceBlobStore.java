@@ -23,6 +23,9 @@ import com.github.tomakehurst.wiremock.store.BlobStore;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
 import java.util.stream.Stream;
 import org.wiremock.annotations.Beta;
@@ -57,7 +60,25 @@ public class FileSourceBlobStore implements BlobStore, PathBased {
 
   @Override
   public InputStreamSource getStreamSource(String key) {
-    return StreamSources.forBlobStoreItem(this, key);
+    final Path path = filePathOf(key);
+    return path != null ? StreamSources.forFile(path) : StreamSources.forBlobStoreItem(this, key);
+  }
+
+  /**
+   * The path of the file for the key, or null if the files are not on the file system (e.g. in a
+   * jar) or the key is not a valid file name, in which case the stream reports the problem.
+   */
+  private Path filePathOf(String key) {
+    if (!"file".equals(fileSource.getUri().getScheme())) {
+      return null;
+    }
+
+    try {
+      final URI uri = fileSource.getBinaryFileNamed(key).getUri();
+      return "file".equals(uri.getScheme()) ? Paths.get(uri) : null;
+    } catch (RuntimeException e) {
+      return null;
+    }
   }
 
   @Override
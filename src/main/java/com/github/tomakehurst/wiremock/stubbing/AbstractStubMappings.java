@@ -48,6 +48,7 @@ public abstract class AbstractStubMappings implements StubMappings {
   protected final FileSource filesFileSource;
   protected final List<StubLifecycleListener> stubLifecycleListeners;
   protected final StubMappingStore store;
+  protected final MatchDecisionCache matchDecisionCache;
 
   public AbstractStubMappings(
       StubMappingStore store,
@@ -57,6 +58,27 @@ public abstract class AbstractStubMappings implements StubMappings {
       Map<String, ResponseDefinitionTransformerV2> v2transformers,
       BlobStore filesBlobStore,
       List<StubLifecycleListener> stubLifecycleListeners) {
+    this(
+        store,
+        scenarios,
+        customMatchers,
+        transformers,
+        v2transformers,
+        filesBlobStore,
+        stubLifecycleListeners,
+        0);
+  }
+
+  @SuppressWarnings("deprecation") // v1 transformers are still accepted alongside v2
+  public AbstractStubMappings(
+      StubMappingStore store,
+      Scenarios scenarios,
+      Map<String, RequestMatcherExtension> customMatchers,
+      Map<String, ResponseDefinitionTransformer> transformers,
+      Map<String, ResponseDefinitionTransformerV2> v2transformers,
+      BlobStore filesBlobStore,
+      List<StubLifecycleListener> stubLifecycleListeners,
+      long matchDecisionCacheSize) {
 
     this.store = store;
     this.scenarios = scenarios;
@@ -65,6 +87,7 @@ public abstract class AbstractStubMappings implements StubMappings {
     this.v2transformers = v2transformers;
     this.filesFileSource = new BlobStoreFileSource(filesBlobStore);
     this.stubLifecycleListeners = stubLifecycleListeners;
+    this.matchDecisionCache = new MatchDecisionCache(matchDecisionCacheSize);
   }
 
   @Override
@@ -73,15 +96,18 @@ public abstract class AbstractStubMappings implements StubMappings {
 
     final List<SubEvent> subEvents = new LinkedList<>();
 
-    StubMapping matchingMapping =
-        store
-            .findAllMatchingRequest(request, customMatchers, subEvents::add)
-            .filter(
-                stubMapping ->
-                    stubMapping.isIndependentOfScenarioState()
-                        || scenarios.mappingMatchesScenarioState(stubMapping))
-            .findFirst()
-            .orElse(StubMapping.NOT_CONFIGURED);
+    final MatchDecisionCache.Lookup lookup = matchDecisionCache.lookup(request, store::getAll);
+    StubMapping matchingMapping = lookup.getCached();
+    if (matchingMapping == null) {
+      matchingMapping =
+          store
+              .findAllMatchingRequest(request, customMatchers, subEvents::add, scenarios)
+              .findFirst()
+              .orElse(StubMapping.NOT_CONFIGURED);
+      if (subEvents.isEmpty()) {
+        lookup.remember(matchingMapping);
+      }
+    }
 
     subEvents.forEach(initialServeEvent::appendSubEvent);
 
@@ -155,6 +181,7 @@ public abstract class AbstractStubMappings implements StubMappings {
 
     store.add(mapping);
     scenarios.onStubMappingAdded(mapping);
+    matchDecisionCache.invalidate();
 
     for (StubLifecycleListener listener : stubLifecycleListeners) {
       listener.afterStubCreated(mapping);
@@ -169,6 +196,7 @@ public abstract class AbstractStubMappings implements StubMappings {
 
     store.remove(mapping);
     scenarios.onStubMappingRemoved(mapping);
+    matchDecisionCache.invalidate();
 
     for (StubLifecycleListener listener : stubLifecycleListeners) {
       listener.afterStubRemoved(mapping);
@@ -195,12 +223,38 @@ public abstract class AbstractStubMappings implements StubMappings {
 
     store.replace(existingMapping, stubMapping);
     scenarios.onStubMappingUpdated(existingMapping, stubMapping);
+    matchDecisionCache.invalidate();
 
     for (StubLifecycleListener listener : stubLifecycleListeners) {
       listener.afterStubEdited(existingMapping, stubMapping);
     }
   }
 
+  @Override
+  public void importMappings(StubImportBatch batch) {
+    for (StubLifecycleListener listener : stubLifecycleListeners) {
+      listener.beforeStubsImported(batch);
+    }
+
+    for (StubImportBatch.Edit edit : batch.getEdited()) {
+      edit.getUpdated().setInsertionIndex(edit.getExisting().getInsertionIndex());
+      edit.getUpdated().setDirty(true);
+    }
+
+    store.importMappings(batch);
+
+    for (StubImportBatch.Edit edit : batch.getEdited()) {
+      scenarios.onStubMappingUpdated(edit.getExisting(), edit.getUpdated());
+    }
+    batch.getAdded().forEach(scenarios::onStubMappingAdded);
+    batch.getRemoved().forEach(scenarios::onStubMappingRemoved);
+    matchDecisionCache.invalidate();
+
+    for (StubLifecycleListener listener : stubLifecycleListeners) {
+      listener.afterStubsImported(batch);
+    }
+  }
+
   @Override
   public void reset() {
     for (StubLifecycleListener listener : stubLifecycleListeners) {
@@ -209,6 +263,7 @@ public abstract class AbstractStubMappings implements StubMappings {
 
     store.clear();
     scenarios.clear();
+    matchDecisionCache.invalidate();
 
     for (StubLifecycleListener listener : stubLifecycleListeners) {
       listener.afterStubsReset();
@@ -220,6 +275,11 @@ public abstract class AbstractStubMappings implements StubMappings {
     scenarios.reset();
   }
 
+  @Override
+  public MatchDecisionCache getMatchDecisionCache() {
+    return matchDecisionCache;
+  }
+
   @Override
   public List<StubMapping> getAll() {
     return store.getAll().collect(toList());
@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import com.github.tomakehurst.wiremock.http.Cookie;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Remembers which stub, if any, was matched by requests with the same method, URL, headers and
+ * cookies. This is only safe while nothing else can affect the outcome, so the cache stands aside
+ * whenever any stub has body, form or multipart patterns, a custom matcher or a scenario. Only the
+ * headers and cookies some stub actually looks at are part of the fingerprint.
+ *
+ * <p>Every change to the stubs bumps a version number, and the cached decisions and the set of
+ * headers and cookies worth fingerprinting are worked out again for the new version the next time a
+ * request arrives.
+ */
+public class MatchDecisionCache {
+
+  /** A cache that remembers no decisions, for stub mappings that do not keep one. */
+  public static final MatchDecisionCache DISABLED = new MatchDecisionCache(0);
+
+  private final long maxSize;
+  private final AtomicLong version = new AtomicLong();
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  private volatile Decisions decisions;
+
+  public MatchDecisionCache(long maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /** Must be called after every change to the stubs, once the store reflects it. */
+  void invalidate() {
+    version.incrementAndGet();
+  }
+
+  Lookup lookup(Request request, Supplier<Stream<StubMapping>> allStubs) {
+    if (maxSize <= 0) {
+      return Lookup.NONE;
+    }
+
+    final Decisions current = currentDecisions(allStubs);
+    if (current.cache == null) {
+      return Lookup.NONE;
+    }
+
+    final List<Object> fingerprint = current.fingerprint(request);
+    final StubMapping cached = current.cache.getIfPresent(fingerprint);
+    if (cached != null) {
+      hitCount.incrementAndGet();
+      return new Lookup(cached, null, null);
+    }
+
+    missCount.incrementAndGet();
+    return new Lookup(null, current, fingerprint);
+  }
+
+  private Decisions currentDecisions(Supplier<Stream<StubMapping>> allStubs) {
+    final long currentVersion = version.get();
+    Decisions current = decisions;
+    if (current == null || current.version != currentVersion) {
+      current = new Decisions(currentVersion, allStubs.get(), maxSize);
+      decisions = current;
+    }
+
+    return current;
+  }
+
+  static class Lookup {
+
+    private static final Lookup NONE = new Lookup(null, null, null);
+
+    private final StubMapping cached;
+    private final Decisions decisions;
+    private final List<Object> fingerprint;
+
+    private Lookup(StubMapping cached, Decisions decisions, List<Object> fingerprint) {
+      this.cached = cached;
+      this.decisions = decisions;
+      this.fingerprint = fingerprint;
+    }
+
+    /** The stub previously matched, {@link StubMapping#NOT_CONFIGURED} for none, or null. */
+    StubMapping getCached() {
+      return cached;
+    }
+
+    void remember(StubMapping matched) {
+      if (decisions != null) {
+        decisions.cache.put(fingerprint, matched);
+      }
+    }
+  }
+
+  private static class Decisions {
+
+    private final long version;
+    private final Set<String> headerNames = new TreeSet<>();
+    private final Set<String> cookieNames = new TreeSet<>();
+    private final Cache<List<Object>, StubMapping> cache;
+
+    private Decisions(long version, Stream<StubMapping> stubs, long maxSize) {
+      this.version = version;
+
+      boolean cacheable = true;
+      for (Iterator<StubMapping> iterator = stubs.iterator(); iterator.hasNext(); ) {
+        final StubMapping stub = iterator.next();
+        if (!isDeterministic(stub)) {
+          cacheable = false;
+          break;
+        }
+
+        final RequestPattern requestPattern = stub.getRequest();
+        if (requestPattern.getHeaders() != null) {
+          requestPattern.getHeaders().keySet().forEach(name -> headerNames.add(normalise(name)));
+        }
+        if (requestPattern.getBasicAuthCredentials() != null) {
+          headerNames.add(normalise("Authorization"));
+        }
+        if (requestPattern.getCookies() != null) {
+          cookieNames.addAll(requestPattern.getCookies().keySet());
+        }
+      }
+
+      this.cache = cacheable ? CacheBuilder.newBuilder().maximumSize(maxSize).build() : null;
+    }
+
+    private static boolean isDeterministic(StubMapping stub) {
+      final RequestPattern requestPattern = stub.getRequest();
+      return !stub.isInScenario()
+          && !requestPattern.hasCustomMatcher()
+          && isEmpty(requestPattern.getBodyPatterns())
+          && isEmpty(requestPattern.getMultipartPatterns())
+          && (requestPattern.getFormParameters() == null
+              || requestPattern.getFormParameters().isEmpty());
+    }
+
+    private List<Object> fingerprint(Request request) {
+      final List<Object> fingerprint = new ArrayList<>(5 + headerNames.size() + cookieNames.size());
+      fingerprint.add(request.getMethod());
+      fingerprint.add(request.getScheme());
+      fingerprint.add(request.getHost());
+      fingerprint.add(request.getPort());
+      fingerprint.add(request.getUrl());
+      for (String headerName : headerNames) {
+        fingerprint.add(request.header(headerName).getValues());
+      }
+      for (String cookieName : cookieNames) {
+        final Cookie cookie = request.getCookies().get(cookieName);
+        fingerprint.add(cookie != null ? cookie.getValues() : null);
+      }
+
+      return fingerprint;
+    }
+
+    private static String normalise(String headerName) {
+      return headerName.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isEmpty(List<?> list) {
+      return list == null || list.isEmpty();
+    }
+  }
+}
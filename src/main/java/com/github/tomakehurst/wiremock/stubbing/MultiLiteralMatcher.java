@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * An Aho-Corasick automaton that finds which of a fixed set of literals occur in a string in a
+ * single pass over it.
+ */
+class MultiLiteralMatcher {
+
+  private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+  private final List<Set<String>> outputs = new ArrayList<>();
+  private final int[] failures;
+
+  MultiLiteralMatcher(Collection<String> literals) {
+    newState();
+    for (String literal : literals) {
+      int state = 0;
+      for (int i = 0; i < literal.length(); i++) {
+        final char c = literal.charAt(i);
+        Integer next = transitions.get(state).get(c);
+        if (next == null) {
+          next = newState();
+          transitions.get(state).put(c, next);
+        }
+        state = next;
+      }
+      outputs.get(state).add(literal);
+    }
+
+    failures = new int[transitions.size()];
+    final Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+    while (!queue.isEmpty()) {
+      final int state = queue.remove();
+      for (Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+        final int child = transition.getValue();
+        queue.add(child);
+
+        int fallback = failures[state];
+        while (fallback != 0 && !transitions.get(fallback).containsKey(transition.getKey())) {
+          fallback = failures[fallback];
+        }
+        failures[child] = transitions.get(fallback).getOrDefault(transition.getKey(), 0);
+        outputs.get(child).addAll(outputs.get(failures[child]));
+      }
+    }
+  }
+
+  Set<String> findAll(String text) {
+    final Set<String> found = new HashSet<>();
+    int state = 0;
+    for (int i = 0; i < text.length(); i++) {
+      final char c = text.charAt(i);
+      while (state != 0 && !transitions.get(state).containsKey(c)) {
+        state = failures[state];
+      }
+      state = transitions.get(state).getOrDefault(c, 0);
+      found.addAll(outputs.get(state));
+    }
+
+    return found;
+  }
+
+  private int newState() {
+    transitions.add(new HashMap<>());
+    outputs.add(new HashSet<>());
+    return transitions.size() - 1;
+  }
+}
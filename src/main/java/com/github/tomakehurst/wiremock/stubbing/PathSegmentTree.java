@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import com.github.tomakehurst.wiremock.common.url.PathTemplate;
+import com.github.tomakehurst.wiremock.matching.RegexLiterals;
+import com.github.tomakehurst.wiremock.matching.RegexPattern;
+import com.github.tomakehurst.wiremock.matching.UrlPathPattern;
+import com.github.tomakehurst.wiremock.matching.UrlPathTemplatePattern;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * A tree of path segments holding stubs whose URL is a path template, or a regex with a literal
+ * path prefix. Template segments containing a variable become a single "any segment" branch, and a
+ * wildcard or the end of a regex's literal prefix means the stub matches any remainder from that
+ * node down.
+ *
+ * <p>Lookups only visit the branches the request path could follow, so the candidates returned are
+ * a superset of the stubs whose URL can match, never a subset.
+ */
+class PathSegmentTree {
+
+  private static final String ANY_SEGMENT = "{}";
+
+  private final Comparator<StubMapping> comparator;
+  private final Node root;
+
+  PathSegmentTree(Comparator<StubMapping> comparator) {
+    this.comparator = comparator;
+    this.root = new Node(comparator);
+  }
+
+  boolean add(StubMapping stubMapping) {
+    final Route route = routeFor(stubMapping.getRequest().getUrlMatcher());
+    if (route == null) {
+      return false;
+    }
+
+    synchronized (root) {
+      Node node = root;
+      for (String segment : route.segments) {
+        node = node.childFor(segment, comparator);
+      }
+      node.stubsFor(route).add(stubMapping);
+    }
+    return true;
+  }
+
+  boolean remove(StubMapping stubMapping) {
+    final Route route = routeFor(stubMapping.getRequest().getUrlMatcher());
+    if (route == null) {
+      return false;
+    }
+
+    synchronized (root) {
+      removeFrom(root, route, 0, stubMapping);
+    }
+    return true;
+  }
+
+  void clear() {
+    synchronized (root) {
+      root.clear();
+    }
+  }
+
+  void collectCandidates(String path, List<Iterator<StubMapping>> sources) {
+    collect(root, path.split("/", -1), 0, sources);
+  }
+
+  private static void collect(
+      Node node, String[] segments, int depth, List<Iterator<StubMapping>> sources) {
+    addIfNotEmpty(node.matchingAnyRemainder, sources);
+
+    if (depth == segments.length) {
+      addIfNotEmpty(node.endingHere, sources);
+      return;
+    }
+
+    final Node literalChild = node.literalChildren.get(segments[depth]);
+    if (literalChild != null) {
+      collect(literalChild, segments, depth + 1, sources);
+    }
+
+    final Node anySegmentChild = node.anySegmentChild;
+    if (anySegmentChild != null) {
+      collect(anySegmentChild, segments, depth + 1, sources);
+    }
+  }
+
+  private static void addIfNotEmpty(
+      ConcurrentSkipListSet<StubMapping> stubs, List<Iterator<StubMapping>> sources) {
+    if (!stubs.isEmpty()) {
+      sources.add(stubs.iterator());
+    }
+  }
+
+  private static void removeFrom(Node node, Route route, int depth, StubMapping stubMapping) {
+    if (depth == route.segments.size()) {
+      node.stubsFor(route).remove(stubMapping);
+      return;
+    }
+
+    final String segment = route.segments.get(depth);
+    final Node child = node.existingChildFor(segment);
+    if (child == null) {
+      return;
+    }
+
+    removeFrom(child, route, depth + 1, stubMapping);
+    if (child.isEmpty()) {
+      node.removeChild(segment);
+    }
+  }
+
+  private static Route routeFor(UrlPattern urlPattern) {
+    if (urlPattern == null) {
+      return null;
+    }
+
+    if (urlPattern.getClass().equals(UrlPathTemplatePattern.class)) {
+      return templateRoute(urlPattern.getExpected());
+    }
+
+    if (urlPattern.isRegex() && urlPattern.getPattern().getClass().equals(RegexPattern.class)) {
+      return regexPrefixRoute(urlPattern.getExpected(), urlPattern instanceof UrlPathPattern);
+    }
+
+    return null;
+  }
+
+  private static Route templateRoute(String template) {
+    final List<String> segments = new ArrayList<>();
+    for (String segment : template.split("/", -1)) {
+      if (segment.contains("**")) {
+        return new Route(segments, true);
+      }
+
+      segments.add(PathTemplate.couldBePathTemplate(segment) ? ANY_SEGMENT : segment);
+    }
+
+    return new Route(segments, false);
+  }
+
+  private static Route regexPrefixRoute(String regex, boolean matchesPathOnly) {
+    String literalPrefix = RegexLiterals.literalPrefix(regex);
+    // Requests are looked up by path, so a full URL regex's prefix must stop before the query
+    final int queryStart = matchesPathOnly ? -1 : literalPrefix.indexOf('?');
+    if (queryStart != -1) {
+      literalPrefix = literalPrefix.substring(0, queryStart);
+    }
+
+    final int lastSlash = literalPrefix.lastIndexOf('/');
+    if (lastSlash <= 0) {
+      return null;
+    }
+
+    return new Route(List.of(literalPrefix.substring(0, lastSlash).split("/", -1)), true);
+  }
+
+  private static class Route {
+    final List<String> segments;
+    final boolean matchesAnyRemainder;
+
+    Route(List<String> segments, boolean matchesAnyRemainder) {
+      this.segments = segments;
+      this.matchesAnyRemainder = matchesAnyRemainder;
+    }
+  }
+
+  private static class Node {
+    final Map<String, Node> literalChildren = new ConcurrentHashMap<>();
+    volatile Node anySegmentChild;
+    final ConcurrentSkipListSet<StubMapping> endingHere;
+    final ConcurrentSkipListSet<StubMapping> matchingAnyRemainder;
+
+    Node(Comparator<StubMapping> comparator) {
+      endingHere = new ConcurrentSkipListSet<>(comparator);
+      matchingAnyRemainder = new ConcurrentSkipListSet<>(comparator);
+    }
+
+    ConcurrentSkipListSet<StubMapping> stubsFor(Route route) {
+      return route.matchesAnyRemainder ? matchingAnyRemainder : endingHere;
+    }
+
+    Node childFor(String segment, Comparator<StubMapping> comparator) {
+      if (ANY_SEGMENT.equals(segment)) {
+        if (anySegmentChild == null) {
+          anySegmentChild = new Node(comparator);
+        }
+        return anySegmentChild;
+      }
+
+      return literalChildren.computeIfAbsent(segment, key -> new Node(comparator));
+    }
+
+    Node existingChildFor(String segment) {
+      return ANY_SEGMENT.equals(segment) ? anySegmentChild : literalChildren.get(segment);
+    }
+
+    void removeChild(String segment) {
+      if (ANY_SEGMENT.equals(segment)) {
+        anySegmentChild = null;
+      } else {
+        literalChildren.remove(segment);
+      }
+    }
+
+    boolean isEmpty() {
+      return endingHere.isEmpty()
+          && matchingAnyRemainder.isEmpty()
+          && literalChildren.isEmpty()
+          && anySegmentChild == null;
+    }
+
+    void clear() {
+      literalChildren.clear();
+      anySegmentChild = null;
+      endingHere.clear();
+      matchingAnyRemainder.clear();
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import com.github.tomakehurst.wiremock.matching.RegexLiterals;
+import com.github.tomakehurst.wiremock.matching.RegexPattern;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds urlMatching and urlPathMatching stubs keyed on the longest literal their regex requires.
+ * All of the literals are compiled into a single {@link MultiLiteralMatcher}, so one pass over the
+ * request URL yields every stub whose regex could match it. The matcher is rebuilt lazily on the
+ * first lookup after a stub is added or removed.
+ */
+class RegexLiteralIndex {
+
+  private static final int MIN_LITERAL_LENGTH = 2;
+
+  private final Comparator<StubMapping> comparator;
+  private final Map<String, ConcurrentSkipListSet<StubMapping>> byLiteral =
+      new ConcurrentHashMap<>();
+  private final AtomicBoolean stale = new AtomicBoolean(false);
+  private volatile MultiLiteralMatcher matcher = new MultiLiteralMatcher(Set.of());
+
+  RegexLiteralIndex(Comparator<StubMapping> comparator) {
+    this.comparator = comparator;
+  }
+
+  boolean add(StubMapping stubMapping) {
+    final String literal = literalFor(stubMapping.getRequest().getUrlMatcher());
+    if (literal == null) {
+      return false;
+    }
+
+    byLiteral.compute(
+        literal,
+        (key, bucket) -> {
+          final ConcurrentSkipListSet<StubMapping> target =
+              bucket != null ? bucket : new ConcurrentSkipListSet<>(comparator);
+          target.add(stubMapping);
+          return target;
+        });
+    stale.set(true);
+    return true;
+  }
+
+  boolean remove(StubMapping stubMapping) {
+    final String literal = literalFor(stubMapping.getRequest().getUrlMatcher());
+    if (literal == null) {
+      return false;
+    }
+
+    byLiteral.computeIfPresent(
+        literal,
+        (key, bucket) -> {
+          bucket.remove(stubMapping);
+          return bucket.isEmpty() ? null : bucket;
+        });
+    stale.set(true);
+    return true;
+  }
+
+  void clear() {
+    byLiteral.clear();
+    stale.set(true);
+  }
+
+  void collectCandidates(String url, List<Iterator<StubMapping>> sources) {
+    if (byLiteral.isEmpty()) {
+      return;
+    }
+
+    for (String literal : currentMatcher().findAll(url)) {
+      final ConcurrentSkipListSet<StubMapping> bucket = byLiteral.get(literal);
+      if (bucket != null) {
+        sources.add(bucket.iterator());
+      }
+    }
+  }
+
+  private MultiLiteralMatcher currentMatcher() {
+    if (stale.get()) {
+      synchronized (this) {
+        if (stale.getAndSet(false)) {
+          matcher = new MultiLiteralMatcher(Set.copyOf(byLiteral.keySet()));
+        }
+      }
+    }
+
+    return matcher;
+  }
+
+  private static String literalFor(UrlPattern urlPattern) {
+    if (urlPattern == null
+        || !urlPattern.isRegex()
+        || !urlPattern.getPattern().getClass().equals(RegexPattern.class)) {
+      return null;
+    }
+
+    String longest = null;
+    for (String literal : RegexLiterals.requiredLiterals(urlPattern.getExpected())) {
+      if (literal.length() >= MIN_LITERAL_LENGTH
+          && (longest == null || literal.length() > longest.length())) {
+        longest = literal;
+      }
+    }
+
+    return longest;
+  }
+}
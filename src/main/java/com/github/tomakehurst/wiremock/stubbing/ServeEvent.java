@@ -116,14 +116,16 @@ public class ServeEvent {
         stopwatch);
   }
 
+  // Copies made while serving a request share its sub events and stopwatch rather than copying
+  // and restarting them
   public ServeEvent withStubMapping(StubMapping stubMapping) {
     return new ServeEvent(
-        id, request, stubMapping, responseDefinition, response, false, timing, subEvents);
+        id, request, stubMapping, responseDefinition, response, timing, subEvents, stopwatch);
   }
 
   public ServeEvent withResponseDefinition(ResponseDefinition responseDefinition) {
     return new ServeEvent(
-        id, request, stubMapping, responseDefinition, response, false, timing, subEvents);
+        id, request, stubMapping, responseDefinition, response, timing, subEvents, stopwatch);
   }
 
   public ServeEvent complete(Response response, DataTruncationSettings dataTruncationSettings) {
@@ -136,9 +138,9 @@ public class ServeEvent {
         stubMapping,
         responseDefinition,
         LoggedResponse.from(response, dataTruncationSettings.getMaxResponseBodySize()),
-        false,
         timing,
-        subEvents);
+        subEvents,
+        stopwatch);
   }
 
   public void beforeSend() {
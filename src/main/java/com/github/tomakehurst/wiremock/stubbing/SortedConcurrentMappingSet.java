@@ -15,10 +15,14 @@
  */
 package com.github.tomakehurst.wiremock.stubbing;
 
+import static java.util.stream.Collectors.toList;
+
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 public class SortedConcurrentMappingSet implements Iterable<StubMapping> {
@@ -27,11 +31,20 @@ public class SortedConcurrentMappingSet implements Iterable<StubMapping> {
   private final ConcurrentSkipListSet<StubMapping> mappingSet;
 
   public SortedConcurrentMappingSet() {
-    insertionCount = new AtomicLong();
+    this(0);
+  }
+
+  private SortedConcurrentMappingSet(long nextInsertionIndex) {
+    insertionCount = new AtomicLong(nextInsertionIndex);
     mappingSet = new ConcurrentSkipListSet<>(sortedByPriorityThenReverseInsertionOrder());
   }
 
-  private Comparator<StubMapping> sortedByPriorityThenReverseInsertionOrder() {
+  /** An empty set that carries on numbering new mappings from where this one has got to. */
+  public SortedConcurrentMappingSet emptyCopy() {
+    return new SortedConcurrentMappingSet(insertionCount.get());
+  }
+
+  public static Comparator<StubMapping> sortedByPriorityThenReverseInsertionOrder() {
     return (one, two) -> {
       int priorityComparison = one.comparePriorityWith(two);
       if (priorityComparison != 0) {
@@ -56,20 +69,34 @@ public class SortedConcurrentMappingSet implements Iterable<StubMapping> {
     mappingSet.add(mapping);
   }
 
+  /** Adds a mapping that already has an insertion index, such as one copied from another set. */
+  public void addKeepingInsertionIndex(StubMapping mapping) {
+    mappingSet.add(mapping);
+  }
+
   public boolean remove(final StubMapping mappingToRemove) {
-    boolean removedByUuid =
-        mappingSet.removeIf(
+    return !removeMatching(mappingToRemove).isEmpty();
+  }
+
+  public List<StubMapping> removeMatching(final StubMapping mappingToRemove) {
+    List<StubMapping> removedByUuid =
+        removeWhere(
             mapping ->
                 mappingToRemove.getUuid() != null
                     && mapping.getUuid() != null
                     && mappingToRemove.getUuid().equals(mapping.getUuid()));
 
-    boolean removedByRequestPattern =
-        !removedByUuid
-            && mappingSet.removeIf(
-                mapping -> mappingToRemove.getRequest().equals(mapping.getRequest()));
+    if (!removedByUuid.isEmpty()) {
+      return removedByUuid;
+    }
+
+    return removeWhere(mapping -> mappingToRemove.getRequest().equals(mapping.getRequest()));
+  }
 
-    return removedByUuid || removedByRequestPattern;
+  private List<StubMapping> removeWhere(Predicate<StubMapping> predicate) {
+    List<StubMapping> matching = mappingSet.stream().filter(predicate).collect(toList());
+    matching.forEach(mappingSet::remove);
+    return matching;
   }
 
   public boolean replace(StubMapping existingStubMapping, StubMapping newStubMapping) {
@@ -43,4 +43,25 @@ public class StoreBackedStubMappings extends AbstractStubMappings {
         filesBlobStore,
         stubLifecycleListeners);
   }
+
+  @SuppressWarnings("deprecation") // v1 transformers are still accepted alongside v2
+  public StoreBackedStubMappings(
+      StubMappingStore store,
+      Scenarios scenarios,
+      Map<String, RequestMatcherExtension> customMatchers,
+      Map<String, ResponseDefinitionTransformer> transformers,
+      Map<String, ResponseDefinitionTransformerV2> v2transformers,
+      BlobStore filesBlobStore,
+      List<StubLifecycleListener> stubLifecycleListeners,
+      long matchDecisionCacheSize) {
+    super(
+        store,
+        scenarios,
+        customMatchers,
+        transformers,
+        v2transformers,
+        filesBlobStore,
+        stubLifecycleListeners,
+        matchDecisionCacheSize);
+  }
 }
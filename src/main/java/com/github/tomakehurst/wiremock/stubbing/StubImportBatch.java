@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import java.util.List;
+
+/**
+ * The changes a stub import makes to the stubs already present, worked out in full before any of
+ * them are applied. Added stubs are listed in the order they should be inserted, so the last one
+ * added is the first to be matched.
+ */
+public class StubImportBatch {
+
+  private final List<StubMapping> added;
+  private final List<Edit> edited;
+  private final List<StubMapping> removed;
+
+  public StubImportBatch(List<StubMapping> added, List<Edit> edited, List<StubMapping> removed) {
+    this.added = List.copyOf(added);
+    this.edited = List.copyOf(edited);
+    this.removed = List.copyOf(removed);
+  }
+
+  public List<StubMapping> getAdded() {
+    return added;
+  }
+
+  public List<Edit> getEdited() {
+    return edited;
+  }
+
+  public List<StubMapping> getRemoved() {
+    return removed;
+  }
+
+  public static class Edit {
+
+    private final StubMapping existing;
+    private final StubMapping updated;
+
+    public Edit(StubMapping existing, StubMapping updated) {
+      this.existing = existing;
+      this.updated = updated;
+    }
+
+    public StubMapping getExisting() {
+      return existing;
+    }
+
+    public StubMapping getUpdated() {
+      return updated;
+    }
+  }
+}
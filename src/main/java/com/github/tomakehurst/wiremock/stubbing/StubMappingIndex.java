@@ -0,0 +1,253 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import static com.github.tomakehurst.wiremock.common.Pair.pair;
+
+import com.github.tomakehurst.wiremock.common.Pair;
+import com.github.tomakehurst.wiremock.common.Urls;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.matching.EqualToPattern;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.matching.UrlPathPattern;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Streams;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * Narrows down the stubs that need to be evaluated for a request. Stubs whose URL is a literal
+ * (urlEqualTo or urlPathEqualTo) are bucketed by method and URL, so that only the buckets the
+ * request could possibly hit are visited. Path templates and regexes with a literal path prefix are
+ * held in a {@link PathSegmentTree}, and any other regex requiring a literal is held in a {@link
+ * RegexLiteralIndex}. Everything else goes into a bucket that is always visited.
+ *
+ * <p>Stubs that require a scenario state are held apart from all of these, keyed by scenario name
+ * and required state. When the current scenario states are supplied, only the stubs requiring the
+ * state each scenario is currently in are returned, so stubs that cannot be served are never
+ * evaluated.
+ *
+ * <p>Candidates are returned in the same priority then reverse insertion order as {@link
+ * SortedConcurrentMappingSet}, so the first exact match is the same stub a full scan would find.
+ */
+public class StubMappingIndex {
+
+  private final Comparator<StubMapping> comparator =
+      SortedConcurrentMappingSet.sortedByPriorityThenReverseInsertionOrder();
+
+  private final Map<Pair<RequestMethod, String>, ConcurrentSkipListSet<StubMapping>> byUrl =
+      new ConcurrentHashMap<>();
+  private final Map<Pair<RequestMethod, String>, ConcurrentSkipListSet<StubMapping>> byPath =
+      new ConcurrentHashMap<>();
+  private final PathSegmentTree pathTree = new PathSegmentTree(comparator);
+  private final RegexLiteralIndex regexIndex = new RegexLiteralIndex(comparator);
+  private final ConcurrentSkipListSet<StubMapping> unindexed =
+      new ConcurrentSkipListSet<>(comparator);
+  private final Map<String, Map<String, ConcurrentSkipListSet<StubMapping>>> byScenarioState =
+      new ConcurrentHashMap<>();
+
+  public void add(StubMapping stubMapping) {
+    if (!stubMapping.isIndependentOfScenarioState()) {
+      addToScenarioState(stubMapping);
+      return;
+    }
+
+    final Map<Pair<RequestMethod, String>, ConcurrentSkipListSet<StubMapping>> buckets =
+        bucketsFor(stubMapping.getRequest());
+    if (buckets == null) {
+      if (!pathTree.add(stubMapping) && !regexIndex.add(stubMapping)) {
+        unindexed.add(stubMapping);
+      }
+      return;
+    }
+
+    buckets.compute(
+        keyFor(stubMapping.getRequest()),
+        (key, bucket) -> {
+          final ConcurrentSkipListSet<StubMapping> target =
+              bucket != null ? bucket : new ConcurrentSkipListSet<>(comparator);
+          target.add(stubMapping);
+          return target;
+        });
+  }
+
+  public void remove(StubMapping stubMapping) {
+    if (!stubMapping.isIndependentOfScenarioState()) {
+      removeFromScenarioState(stubMapping);
+      return;
+    }
+
+    final Map<Pair<RequestMethod, String>, ConcurrentSkipListSet<StubMapping>> buckets =
+        bucketsFor(stubMapping.getRequest());
+    if (buckets == null) {
+      if (!pathTree.remove(stubMapping) && !regexIndex.remove(stubMapping)) {
+        unindexed.remove(stubMapping);
+      }
+      return;
+    }
+
+    buckets.computeIfPresent(
+        keyFor(stubMapping.getRequest()),
+        (key, bucket) -> {
+          bucket.remove(stubMapping);
+          return bucket.isEmpty() ? null : bucket;
+        });
+  }
+
+  public void clear() {
+    byUrl.clear();
+    byPath.clear();
+    pathTree.clear();
+    regexIndex.clear();
+    unindexed.clear();
+    byScenarioState.clear();
+  }
+
+  /** All stubs that could match the request, whatever state their scenarios are in. */
+  public Stream<StubMapping> findCandidates(Request request) {
+    return findCandidates(request, null);
+  }
+
+  /**
+   * The stubs that could match the request, leaving out those that require a scenario to be in a
+   * state other than the one it is currently in. Passing null scenarios includes all of them.
+   */
+  public Stream<StubMapping> findCandidates(Request request, Scenarios scenarios) {
+    final List<Iterator<StubMapping>> sources = new ArrayList<>();
+
+    final String url = request.getUrl();
+    if (url != null) {
+      final String path = Urls.getPath(url);
+      addBuckets(sources, byUrl, request.getMethod(), url);
+      addBuckets(sources, byPath, request.getMethod(), path);
+      pathTree.collectCandidates(path, sources);
+      regexIndex.collectCandidates(url, sources);
+    }
+    sources.add(unindexed.iterator());
+    addScenarioStateBuckets(sources, scenarios);
+
+    return Streams.stream(Iterators.mergeSorted(sources, comparator));
+  }
+
+  private void addToScenarioState(StubMapping stubMapping) {
+    byScenarioState.compute(
+        stubMapping.getScenarioName(),
+        (scenarioName, states) -> {
+          final Map<String, ConcurrentSkipListSet<StubMapping>> target =
+              states != null ? states : new ConcurrentHashMap<>();
+          target
+              .computeIfAbsent(
+                  stubMapping.getRequiredScenarioState(),
+                  state -> new ConcurrentSkipListSet<>(comparator))
+              .add(stubMapping);
+          return target;
+        });
+  }
+
+  private void removeFromScenarioState(StubMapping stubMapping) {
+    byScenarioState.computeIfPresent(
+        stubMapping.getScenarioName(),
+        (scenarioName, states) -> {
+          states.computeIfPresent(
+              stubMapping.getRequiredScenarioState(),
+              (state, bucket) -> {
+                bucket.remove(stubMapping);
+                return bucket.isEmpty() ? null : bucket;
+              });
+          return states.isEmpty() ? null : states;
+        });
+  }
+
+  private void addScenarioStateBuckets(List<Iterator<StubMapping>> sources, Scenarios scenarios) {
+    for (Map.Entry<String, Map<String, ConcurrentSkipListSet<StubMapping>>> entry :
+        byScenarioState.entrySet()) {
+      if (scenarios == null) {
+        entry.getValue().values().forEach(bucket -> sources.add(bucket.iterator()));
+        continue;
+      }
+
+      final Scenario scenario = scenarios.getByName(entry.getKey());
+      if (scenario != null) {
+        final ConcurrentSkipListSet<StubMapping> bucket = entry.getValue().get(scenario.getState());
+        if (bucket != null) {
+          sources.add(bucket.iterator());
+        }
+      }
+    }
+  }
+
+  private static void addBuckets(
+      List<Iterator<StubMapping>> sources,
+      Map<Pair<RequestMethod, String>, ConcurrentSkipListSet<StubMapping>> buckets,
+      RequestMethod method,
+      String value) {
+    if (method != null && !method.equals(RequestMethod.ANY)) {
+      addBucket(sources, buckets, pair(method, value));
+    }
+    addBucket(sources, buckets, pair(RequestMethod.ANY, value));
+  }
+
+  private static void addBucket(
+      List<Iterator<StubMapping>> sources,
+      Map<Pair<RequestMethod, String>, ConcurrentSkipListSet<StubMapping>> buckets,
+      Pair<RequestMethod, String> key) {
+    final ConcurrentSkipListSet<StubMapping> bucket = buckets.get(key);
+    if (bucket != null) {
+      sources.add(bucket.iterator());
+    }
+  }
+
+  private Map<Pair<RequestMethod, String>, ConcurrentSkipListSet<StubMapping>> bucketsFor(
+      RequestPattern requestPattern) {
+    final UrlPattern urlPattern = requestPattern.getUrlMatcher();
+    if (!isLiteral(urlPattern)) {
+      return null;
+    }
+
+    if (urlPattern.getClass().equals(UrlPattern.class)) {
+      return byUrl;
+    }
+
+    if (urlPattern.getClass().equals(UrlPathPattern.class)) {
+      return byPath;
+    }
+
+    return null;
+  }
+
+  private static Pair<RequestMethod, String> keyFor(RequestPattern requestPattern) {
+    return pair(requestPattern.getMethod(), requestPattern.getUrlMatcher().getExpected());
+  }
+
+  private static boolean isLiteral(UrlPattern urlPattern) {
+    if (urlPattern == null
+        || urlPattern.isRegex()
+        || !urlPattern.getPattern().getClass().equals(EqualToPattern.class)) {
+      return false;
+    }
+
+    final EqualToPattern equalToPattern = (EqualToPattern) urlPattern.getPattern();
+    return !Boolean.TRUE.equals(equalToPattern.getCaseInsensitive());
+  }
+}
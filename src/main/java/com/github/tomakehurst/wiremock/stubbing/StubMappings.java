@@ -30,6 +30,16 @@ public interface StubMappings {
 
   void editMapping(StubMapping stubMapping);
 
+  /**
+   * Applies every change in an import. Implementations that can should apply them all at once, so
+   * that requests never see a partly applied import. By default they are made one at a time.
+   */
+  default void importMappings(StubImportBatch batch) {
+    batch.getEdited().forEach(edit -> editMapping(edit.getUpdated()));
+    batch.getAdded().forEach(this::addMapping);
+    batch.getRemoved().forEach(this::removeMapping);
+  }
+
   void reset();
 
   void resetScenarios();
@@ -41,4 +51,9 @@ public interface StubMappings {
   List<Scenario> getAllScenarios();
 
   List<StubMapping> findByMetadata(StringValuePattern pattern);
+
+  /** The cache of match decisions, which by default remembers none. */
+  default MatchDecisionCache getMatchDecisionCache() {
+    return MatchDecisionCache.DISABLED;
+  }
 }
@@ -66,6 +66,7 @@ public abstract class AbstractRequestJournal implements RequestJournal {
 
   @Override
   public void requestReceived(ServeEvent serveEvent) {
+    serveEvent.getRequest().materialise();
     store.add(serveEvent);
     removeOldEntries();
   }
@@ -48,7 +48,10 @@ public class DisabledRequestJournal implements RequestJournal {
   public void reset() {}
 
   @Override
-  public void requestReceived(ServeEvent serveEvent) {}
+  public void requestReceived(ServeEvent serveEvent) {
+    // Listeners may still read the request once it has been served
+    serveEvent.getRequest().materialise();
+  }
 
   @Override
   public void serveCompleted(ServeEvent serveEvent) {}
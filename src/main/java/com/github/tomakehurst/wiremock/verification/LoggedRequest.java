@@ -28,9 +28,11 @@ import com.github.tomakehurst.wiremock.common.Dates;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.Urls;
 import com.github.tomakehurst.wiremock.http.*;
+import com.google.common.base.Suppliers;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.util.*;
+import java.util.function.Supplier;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class LoggedRequest implements Request {
@@ -38,19 +40,27 @@ public class LoggedRequest implements Request {
   private final String scheme;
   private final String host;
   private final int port;
+  private final Supplier<URL> fullUrl;
   private final String url;
   private final String absoluteUrl;
   private final String clientIp;
   private final RequestMethod method;
-  private final HttpHeaders headers;
-  private final Map<String, Cookie> cookies;
-  private final Map<String, QueryParameter> queryParams;
-  private final Map<String, FormParameter> formParameters;
-  private final byte[] body;
+  // Headers, cookies, form parameters, body and parts are read from the request this was created
+  // from on first use, so that matching only pays for what it looks at
+  private final Supplier<HttpHeaders> headers;
+  private final Supplier<Map<String, Cookie>> cookies;
+  // Split from the URL on first use, unless bound from JSON
+  private volatile Map<String, QueryParameter> queryParams;
+  private final Supplier<Map<String, FormParameter>> formParameters;
+  private final Supplier<byte[]> body;
   private final boolean isBrowserProxyRequest;
   private final Date loggedDate;
-  private final Collection<Part> multiparts;
+  private final Supplier<Collection<Part>> multiparts;
   private final String protocol;
+  // Shared by the patterns matching the request while it is served. Once it is journaled each
+  // caller parses the body afresh, so the journal keeps no parsed trees or DOMs alive.
+  private ParsedBody parsedBody;
+  private boolean journaled;
 
   public static LoggedRequest createFrom(Request request) {
     return new LoggedRequest(
@@ -61,14 +71,14 @@ public class LoggedRequest implements Request {
         request.getAbsoluteUrl(),
         request.getMethod(),
         request.getClientIp(),
-        request.getHeaders(),
-        request.getCookies(),
+        Suppliers.memoize(request::getHeaders),
+        Suppliers.memoize(request::getCookies),
         request.isBrowserProxyRequest(),
         new Date(),
-        request.getBody(),
-        request.getParts(),
+        Suppliers.memoize(request::getBody),
+        Suppliers.memoize(request::getParts),
         request.getProtocol(),
-        request.formParameters());
+        Suppliers.memoize(request::formParameters));
   }
 
   @JsonCreator
@@ -84,7 +94,8 @@ public class LoggedRequest implements Request {
       @JsonProperty("bodyAsBase64") String bodyAsBase64,
       @JsonProperty("body") String ignoredBodyOnlyUsedForBinding,
       @JsonProperty("multiparts") Collection<Part> multiparts,
-      @JsonProperty("protocol") String protocol) {
+      @JsonProperty("protocol") String protocol,
+      @JsonProperty("formParams") Map<String, FormParameter> formParameters) {
     this(
         null,
         null,
@@ -93,14 +104,14 @@ public class LoggedRequest implements Request {
         absoluteUrl,
         method,
         clientIp,
-        headers,
-        cookies,
+        Suppliers.ofInstance(headers),
+        Suppliers.ofInstance(cookies),
         isBrowserProxyRequest,
         loggedDate,
-        decodeBase64(bodyAsBase64),
-        multiparts,
+        Suppliers.ofInstance(decodeBase64(bodyAsBase64)),
+        Suppliers.ofInstance(multiparts),
         protocol,
-        new HashMap<>());
+        Suppliers.ofInstance(formParameters != null ? formParameters : new HashMap<>()));
   }
 
   private LoggedRequest(
@@ -111,34 +122,27 @@ public class LoggedRequest implements Request {
       String absoluteUrl,
       RequestMethod method,
       String clientIp,
-      HttpHeaders headers,
-      Map<String, Cookie> cookies,
+      Supplier<HttpHeaders> headers,
+      Supplier<Map<String, Cookie>> cookies,
       boolean isBrowserProxyRequest,
       Date loggedDate,
-      byte[] body,
-      Collection<Part> multiparts,
+      Supplier<byte[]> body,
+      Supplier<Collection<Part>> multiparts,
       String protocol,
-      Map<String, FormParameter> formParameters) {
+      Supplier<Map<String, FormParameter>> formParameters) {
     this.url = url;
 
     this.absoluteUrl = absoluteUrl;
-    if (absoluteUrl == null) {
-      this.scheme = scheme;
-      this.host = host;
-      this.port = port != null ? port : -1;
-    } else {
-      URL fullUrl = safelyCreateURL(absoluteUrl);
-      this.scheme = fullUrl.getProtocol();
-      this.host = fullUrl.getHost();
-      this.port = Urls.getPort(fullUrl);
-    }
+    this.scheme = scheme;
+    this.host = host;
+    this.port = port != null ? port : -1;
+    this.fullUrl = Suppliers.memoize(() -> safelyCreateURL(absoluteUrl));
 
     this.clientIp = clientIp;
     this.method = method;
     this.body = body;
     this.headers = headers;
     this.cookies = cookies;
-    this.queryParams = url != null ? splitQueryFromUrl(url) : Collections.emptyMap();
     this.formParameters = formParameters;
     this.isBrowserProxyRequest = isBrowserProxyRequest;
     this.loggedDate = loggedDate;
@@ -163,17 +167,17 @@ public class LoggedRequest implements Request {
 
   @Override
   public String getScheme() {
-    return scheme;
+    return absoluteUrl != null ? fullUrl.get().getProtocol() : scheme;
   }
 
   @Override
   public String getHost() {
-    return host;
+    return absoluteUrl != null ? fullUrl.get().getHost() : host;
   }
 
   @Override
   public int getPort() {
-    return port;
+    return absoluteUrl != null ? Urls.getPort(fullUrl.get()) : port;
   }
 
   @Override
@@ -194,11 +198,12 @@ public class LoggedRequest implements Request {
 
   @Override
   public HttpHeader header(String key) {
-    return headers.getHeader(key);
+    return headers.get().getHeader(key);
   }
 
   @Override
   public ContentTypeHeader contentTypeHeader() {
+    final HttpHeaders headers = this.headers.get();
     if (headers != null) {
       return headers.getContentTypeHeader();
     }
@@ -220,59 +225,76 @@ public class LoggedRequest implements Request {
 
   @Override
   public Map<String, Cookie> getCookies() {
-    return cookies;
+    return cookies.get();
   }
 
   @Override
   public byte[] getBody() {
-    return body;
+    return body.get();
   }
 
   @Override
   @JsonProperty("body")
   public String getBodyAsString() {
-    return stringFromBytes(body, encodingFromContentTypeHeaderOrUtf8());
+    return stringFromBytes(getBody(), encodingFromContentTypeHeaderOrUtf8());
   }
 
   @Override
   @JsonProperty("bodyAsBase64")
   public String getBodyAsBase64() {
-    return encodeBase64(body);
+    return encodeBase64(getBody());
+  }
+
+  @Override
+  @JsonIgnore
+  public synchronized ParsedBody getParsedBody() {
+    if (journaled) {
+      return ParsedBody.fromRequest(this);
+    }
+    if (parsedBody == null) {
+      parsedBody = ParsedBody.fromRequest(this);
+    }
+
+    return parsedBody;
   }
 
   @Override
   @JsonIgnore
   public Set<String> getAllHeaderKeys() {
-    return headers.keys();
+    return headers.get().keys();
   }
 
   @Override
   public QueryParameter queryParameter(String key) {
-    return getFirstNonNull(queryParams.get(key), QueryParameter.absent(key));
+    return getFirstNonNull(getQueryParams().get(key), QueryParameter.absent(key));
   }
 
   @Override
   public FormParameter formParameter(String key) {
-    return getFirstNonNull(formParameters.get(key), FormParameter.absent(key));
+    return getFirstNonNull(formParameters.get().get(key), FormParameter.absent(key));
   }
 
   @Override
   public Map<String, FormParameter> formParameters() {
-    return formParameters;
+    return formParameters.get();
   }
 
   @JsonProperty("formParams")
   public Map<String, FormParameter> getFormParameters() {
-    return formParameters;
+    return formParameters.get();
   }
 
   @JsonProperty("queryParams")
   public Map<String, QueryParameter> getQueryParams() {
+    if (queryParams == null) {
+      queryParams = url != null ? splitQueryFromUrl(url) : Collections.emptyMap();
+    }
+
     return queryParams;
   }
 
   public HttpHeaders getHeaders() {
-    return headers;
+    return headers.get();
   }
 
   @Override
@@ -308,23 +330,39 @@ public class LoggedRequest implements Request {
   @JsonIgnore
   @Override
   public boolean isMultipart() {
-    return (multiparts != null && !multiparts.isEmpty());
+    Collection<Part> parts = getParts();
+    return (parts != null && !parts.isEmpty());
   }
 
   @JsonIgnore
   @Override
   public Collection<Part> getParts() {
-    return multiparts;
+    return multiparts.get();
+  }
+
+  /**
+   * Copies anything not yet read from the request this was created from, so that a serve event kept
+   * after the request has been served no longer refers to it, and drops the body parsed for
+   * matching.
+   */
+  void materialise() {
+    headers.get();
+    cookies.get();
+    formParameters.get();
+    body.get();
+    multiparts.get();
+    synchronized (this) {
+      journaled = true;
+      parsedBody = null;
+    }
   }
 
   @JsonIgnore
   @Override
   public Part getPart(final String name) {
-    return (multiparts != null && name != null)
-        ? multiparts.stream()
-            .filter(input -> (name.equals(input.getName())))
-            .findFirst()
-            .orElse(null)
+    Collection<Part> parts = getParts();
+    return (parts != null && name != null)
+        ? parts.stream().filter(input -> (name.equals(input.getName()))).findFirst().orElse(null)
         : null;
   }
 }
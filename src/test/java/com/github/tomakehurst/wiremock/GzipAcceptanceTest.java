@@ -19,7 +19,9 @@ import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static com.github.tomakehurst.wiremock.common.Gzip.gzip;
 import static com.github.tomakehurst.wiremock.common.Gzip.unGzipToString;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.github.tomakehurst.wiremock.testsupport.TestFiles.defaultTestFilesRoot;
 import static com.github.tomakehurst.wiremock.testsupport.TestHttpHeader.withHeader;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
@@ -28,6 +30,8 @@ import com.github.tomakehurst.wiremock.core.Options;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
 import com.github.tomakehurst.wiremock.testsupport.WireMockResponse;
 import com.github.tomakehurst.wiremock.testsupport.WireMockTestClient;
+import java.io.ByteArrayInputStream;
+import java.util.zip.InflaterInputStream;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.hc.client5.http.entity.GzipCompressingEntity;
 import org.apache.hc.core5.http.ContentType;
@@ -79,6 +83,29 @@ public class GzipAcceptanceTest {
       assertThat(plainText, is("body text"));
     }
 
+    @Test
+    public void servesDeflatedResponseWhenOnlyDeflateIsAccepted() throws Exception {
+      wireMockServer.stubFor(get("/deflate-response").willReturn(ok("body text")));
+
+      WireMockResponse response =
+          testClient.get("/deflate-response", withHeader("Accept-Encoding", "deflate"));
+      assertThat(response.firstHeader("Content-Encoding"), is("deflate"));
+
+      assertThat(inflate(response.binaryContent()), is("body text"));
+    }
+
+    @Test
+    public void doesNotCompressResponsesThatAlreadyDeclareAnEncoding() {
+      wireMockServer.stubFor(
+          get("/identity-response")
+              .willReturn(ok("body text").withHeader("Content-Encoding", "identity")));
+
+      WireMockResponse response =
+          testClient.get("/identity-response", withHeader("Accept-Encoding", "gzip,deflate"));
+      assertThat(response.firstHeader("Content-Encoding"), is("identity"));
+      assertThat(response.content(), is("body text"));
+    }
+
     @Test
     public void acceptsGzippedRequest() {
       wireMockServer.stubFor(
@@ -94,6 +121,53 @@ public class GzipAcceptanceTest {
     }
   }
 
+  @Nested
+  class BodyFiles {
+
+    @RegisterExtension
+    public WireMockExtension wm =
+        WireMockExtension.newInstance()
+            .options(
+                wireMockConfig()
+                    .dynamicPort()
+                    .withRootDirectory(defaultTestFilesRoot())
+                    .withBodyFileCacheSize(1024 * 1024))
+            .build();
+
+    WireMockTestClient testClient;
+
+    @BeforeEach
+    public void init() {
+      testClient = new WireMockTestClient(wm.getPort());
+    }
+
+    @Test
+    public void servesCompressedBodyFileOnEveryRequest() throws Exception {
+      wm.stubFor(get("/compressed-file").willReturn(aResponse().withBodyFile("plain-example.txt")));
+
+      for (int i = 0; i < 2; i++) {
+        WireMockResponse gzipped =
+            testClient.get("/compressed-file", withHeader("Accept-Encoding", "gzip"));
+        assertThat(gzipped.firstHeader("Content-Encoding"), is("gzip"));
+        assertThat(unGzipToString(gzipped.binaryContent()), is("Some example test from a file"));
+
+        WireMockResponse deflated =
+            testClient.get("/compressed-file", withHeader("Accept-Encoding", "deflate"));
+        assertThat(deflated.firstHeader("Content-Encoding"), is("deflate"));
+        assertThat(inflate(deflated.binaryContent()), is("Some example test from a file"));
+      }
+    }
+
+    @Test
+    public void servesBodyFileUncompressedWhenNoEncodingIsAccepted() {
+      wm.stubFor(get("/plain-file").willReturn(aResponse().withBodyFile("plain-example.txt")));
+
+      WireMockResponse response = testClient.get("/plain-file");
+      assertThat(response.headers().containsKey("Content-Encoding"), is(false));
+      assertThat(response.content(), is("Some example test from a file"));
+    }
+  }
+
   @Nested
   class NoChunkedTransferEncoding {
 
@@ -171,4 +245,9 @@ public class GzipAcceptanceTest {
       assertThat(plainText, is(bodyText));
     }
   }
+
+  private static String inflate(byte[] deflatedContent) throws Exception {
+    return new String(
+        new InflaterInputStream(new ByteArrayInputStream(deflatedContent)).readAllBytes(), UTF_8);
+  }
 }
@@ -15,13 +15,17 @@
  */
 package com.github.tomakehurst.wiremock;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.testsupport.TestHttpHeader.withHeader;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 
 import com.github.tomakehurst.wiremock.testsupport.MappingJsonSamples;
 import com.github.tomakehurst.wiremock.testsupport.WireMockResponse;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import org.junit.jupiter.api.Test;
 
 public class HeaderMatchingAcceptanceTest extends AcceptanceTestBase {
@@ -63,4 +67,15 @@ public class HeaderMatchingAcceptanceTest extends AcceptanceTestBase {
     response = testClient.get("/header/match/dependent", withHeader("Accept", "application/json"));
     assertThat(response.statusCode(), is(200));
   }
+
+  @Test
+  public void repeatedHeadersAreCombinedWhateverTheirCase() {
+    testClient.get(
+        "/header/repeated", withHeader("X-Repeated", "one"), withHeader("x-repeated", "two"));
+
+    LoggedRequest request =
+        wireMockServer.findAll(getRequestedFor(urlEqualTo("/header/repeated"))).get(0);
+    assertThat(request.header("X-REPEATED").values(), contains("one", "two"));
+    assertThat(request.getHeader("x-Repeated"), is("one"));
+  }
 }
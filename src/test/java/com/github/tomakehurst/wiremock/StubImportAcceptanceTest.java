@@ -130,4 +130,19 @@ public class StubImportAcceptanceTest extends AcceptanceTestBase {
     List<StubMapping> stubs = admin.listAllStubMappings().getMappings();
     assertThat(stubs.size(), is(5));
   }
+
+  @Test
+  public void keepsTheFirstListingOfAStubImportedMoreThanOnce() {
+    UUID id = UUID.randomUUID();
+
+    WireMock.importStubs(
+        stubImport()
+            .stub(get("/one").withId(id).willReturn(ok("First")))
+            .stub(get("/one").withId(id).willReturn(ok("Second")))
+            .overwriteExisting());
+
+    List<StubMapping> stubs = admin.listAllStubMappings().getMappings();
+    assertThat(stubs.size(), is(1));
+    assertThat(stubs.get(0).getResponse().getBody(), is("First"));
+  }
 }
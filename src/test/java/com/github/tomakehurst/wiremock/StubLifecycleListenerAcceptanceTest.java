@@ -18,6 +18,7 @@ package com.github.tomakehurst.wiremock;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.ok;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.github.tomakehurst.wiremock.stubbing.StubImport.stubImport;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -113,6 +114,28 @@ public class StubLifecycleListenerAcceptanceTest {
     assertTrue(wm.listAllStubMappings().getMappings().isEmpty());
   }
 
+  @Test
+  public void importIsVetoedAsAWholeWhenExceptionIsThrown() {
+    wm.stubFor(get("/existing").willReturn(ok()));
+    exceptionThrowingListener.throwException = true;
+
+    try {
+      wm.importStubs(
+          stubImport()
+              .stub(get("/one").willReturn(ok()))
+              .stub(get("/two").willReturn(ok()))
+              .deleteAllExistingStubsNotInImport()
+              .build());
+      fail("Expected an exception to be thrown");
+    } catch (Exception e) {
+      assertThat(e, Matchers.instanceOf(NotPermittedException.class));
+    }
+
+    List<StubMapping> stubs = wm.listAllStubMappings().getMappings();
+    assertThat(stubs.size(), is(1));
+    assertThat(stubs.get(0).getRequest().getUrl(), is("/existing"));
+  }
+
   @Test
   public void sensibleExceptionIsThrownWhenRemoteAndExceptionThrownFromListener() {
     WireMock wmRemote = new WireMock(wm.getPort());
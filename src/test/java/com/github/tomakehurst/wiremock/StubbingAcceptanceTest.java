@@ -1284,6 +1284,16 @@ public class StubbingAcceptanceTest extends AcceptanceTestBase {
     };
   }
 
+  @Test
+  public void changingAJournaledResponseBodyDoesNotChangeLaterResponses() {
+    stubFor(get("/journaled-body").willReturn(ok("hello")));
+    assertThat(testClient.get("/journaled-body").content(), is("hello"));
+
+    wireMockServer.getAllServeEvents().get(0).getResponse().getBody()[0] = 'J';
+
+    assertThat(testClient.get("/journaled-body").content(), is("hello"));
+  }
+
   private void getAndAssertUnderlyingExceptionInstanceClass(String url, Class<?> expectedClass) {
     boolean thrown = false;
     try {
@@ -94,6 +94,29 @@ public class TransferEncodingAcceptanceTest {
     assertThat(response.firstHeader("Content-Length"), notNullValue());
   }
 
+  @Test
+  public void sendsTransferEncodingChunkedWhenPolicyIsBodyFileAndBodyFileIsServedFromTheCache() {
+    wm =
+        new WireMockServer(
+            wireMockConfig()
+                .dynamicPort()
+                .withRootDirectory(filePath("test-file-root"))
+                .withBodyFileCacheSize(1024 * 1024)
+                .useChunkedTransferEncoding(Options.ChunkedEncodingPolicy.BODY_FILE));
+    wm.start();
+    testClient = new WireMockTestClient(wm.port());
+
+    final String url = "/chunked-encoding-cached-body-file";
+    wm.stubFor(get(url).willReturn(ok().withBodyFile("plain-example.txt")));
+
+    for (int i = 0; i < 2; i++) {
+      WireMockResponse response = testClient.get(url);
+      assertThat(response.statusCode(), is(200));
+      assertThat(response.firstHeader("Transfer-Encoding"), is("chunked"));
+      assertThat(response.firstHeader("Content-Length"), nullValue());
+    }
+  }
+
   @Test
   public void sendsContentLengthWhenTransferEncodingChunkedPolicyIsNeverAndDribbleDelayIsApplied() {
     startWithChunkedEncodingPolicy(Options.ChunkedEncodingPolicy.NEVER);
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.jupiter.api.Test;
+
+public class StreamingJsonPathTest {
+
+  @Test
+  void onlyCompilesDefinitePaths() {
+    assertThat(StreamingJsonPath.compile("$.header.type"), is(notNullValue()));
+    assertThat(StreamingJsonPath.compile("$['header'][\"type\"][0]"), is(notNullValue()));
+
+    assertThat(StreamingJsonPath.compile("$"), is(nullValue()));
+    assertThat(StreamingJsonPath.compile("$..type"), is(nullValue()));
+    assertThat(StreamingJsonPath.compile("$.items[*].id"), is(nullValue()));
+    assertThat(StreamingJsonPath.compile("$.items[-1]"), is(nullValue()));
+    assertThat(StreamingJsonPath.compile("$.items[?(@.id == 1)]"), is(nullValue()));
+    assertThat(StreamingJsonPath.compile("$.items.length()"), is(nullValue()));
+  }
+
+  @Test
+  void findsScalarsAsJsonPathRendersThem() {
+    String json =
+        "{\"header\": {\"type\": \"bulk\", \"count\": 12345678901234567890, \"final\": true},"
+            + " \"items\": [{\"id\": -0}, {\"id\": 2}]}";
+
+    assertThat(StreamingJsonPath.compile("$.header.type").findScalar(json), is("bulk"));
+    assertThat(
+        StreamingJsonPath.compile("$.header.count").findScalar(json), is("12345678901234567890"));
+    assertThat(StreamingJsonPath.compile("$.header.final").findScalar(json), is("true"));
+    assertThat(StreamingJsonPath.compile("$.items[0].id").findScalar(json), is("0"));
+    assertThat(StreamingJsonPath.compile("$['items'][1]['id']").findScalar(json), is("2"));
+  }
+
+  @Test
+  void leavesDocumentsAFullParseCouldReadDifferentlyUndecided() {
+    StreamingJsonPath path = StreamingJsonPath.compile("$.header.type");
+
+    assertThat(path.findScalar("{\"header\": {\"type\": \"bulk\"}, "), is(nullValue()));
+    assertThat(path.findScalar("{\"header\": {\"type\": \"bulk\"}} {}"), is(nullValue()));
+    assertThat(
+        path.findScalar("{\"header\": {\"type\": \"bulk\", \"type\": \"single\"}}"),
+        is(nullValue()));
+    assertThat(
+        path.findScalar("{\"header\": {\"type\": \"bulk\"}, \"items\": [{\"id\": 1, \"id\": 2}]}"),
+        is(nullValue()));
+  }
+
+  @Test
+  void leavesAnythingElseUndecided() {
+    StreamingJsonPath path = StreamingJsonPath.compile("$.header.type");
+
+    assertThat(path.findScalar("{\"header\": {\"type\": 1.5}}"), is(nullValue()));
+    assertThat(path.findScalar("{\"header\": {\"type\": null}}"), is(nullValue()));
+    assertThat(path.findScalar("{\"header\": {\"type\": [\"bulk\"]}}"), is(nullValue()));
+    assertThat(path.findScalar("{\"header\": {\"kind\": \"bulk\"}}"), is(nullValue()));
+    assertThat(path.findScalar("{header: {type: 'bulk'}}"), is(nullValue()));
+    assertThat(path.findScalar("[{\"header\": {\"type\": \"bulk\"}}]"), is(nullValue()));
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common.xml;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.jupiter.api.Test;
+
+public class CanonicalXmlTest {
+
+  @Test
+  void ignoresWhitespaceCommentsAndAttributeOrder() {
+    assertThat(
+        CanonicalXml.of("<?xml version=\"1.0\"?><a one=\"1\" two=\"2\"><b> text </b></a>"),
+        is(CanonicalXml.of("<a two=\" 2\" one=\"1\">\n  <!-- note -->\n  <b>text</b>\n</a>")));
+  }
+
+  @Test
+  void ignoresTheOrderOfDifferentlyNamedSiblings() {
+    assertThat(
+        CanonicalXml.of("<a><b>1</b><c>2</c><b>3</b></a>"),
+        is(CanonicalXml.of("<a><c>2</c><b>1</b><b>3</b></a>")));
+  }
+
+  @Test
+  void keepsTheOrderOfSiblingsWithTheSameName() {
+    assertThat(
+        CanonicalXml.of("<a><b>1</b><b>2</b></a>"),
+        not(is(CanonicalXml.of("<a><b>2</b><b>1</b></a>"))));
+  }
+
+  @Test
+  void distinguishesTextAttributeValuesAndElementCounts() {
+    CanonicalXml canonicalXml = CanonicalXml.of("<a k=\"1\"><b>x</b></a>");
+
+    assertThat(canonicalXml, not(is(CanonicalXml.of("<a k=\"1\"><b>y</b></a>"))));
+    assertThat(canonicalXml, not(is(CanonicalXml.of("<a k=\"2\"><b>x</b></a>"))));
+    assertThat(canonicalXml, not(is(CanonicalXml.of("<a k=\"1\"><b>x</b><b>x</b></a>"))));
+  }
+
+  @Test
+  void hasNoCanonicalFormForNamespacesMixedContentOrMalformedDocuments() {
+    assertThat(CanonicalXml.of("<a xmlns=\"urn:things\"/>"), is(nullValue()));
+    assertThat(CanonicalXml.of("<p:a xmlns:p=\"urn:things\"/>"), is(nullValue()));
+    assertThat(CanonicalXml.of("<a>text<b/></a>"), is(nullValue()));
+    assertThat(CanonicalXml.of("<a><?pi data?></a>"), is(nullValue()));
+    assertThat(CanonicalXml.of("<a>"), is(nullValue()));
+    assertThat(CanonicalXml.of("not xml"), is(nullValue()));
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common.xml;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.tomakehurst.wiremock.common.ListOrSingle;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class CompiledXPathTest {
+
+  @Test
+  void evaluatesTheSameExpressionAgainstManyDocuments() {
+    CompiledXPath xPath = new CompiledXPath("/things/thing/@id", null);
+
+    ListOrSingle<XmlNode> first = xPath.findNodes(Xml.parse("<things><thing id=\"1\"/></things>"));
+    ListOrSingle<XmlNode> second =
+        xPath.findNodes(Xml.parse("<things><thing id=\"2\"/><thing id=\"3\"/></things>"));
+
+    assertThat(first.size(), is(1));
+    assertThat(first.get(0).toString(), is("1"));
+    assertThat(second.size(), is(2));
+    assertThat(second.get(1).toString(), is("3"));
+  }
+
+  @Test
+  void resolvesPrefixesAgainstTheGivenNamespaces() {
+    XmlDocument document =
+        Xml.parse("<t:things xmlns:t=\"urn:things\"><t:thing>1</t:thing></t:things>");
+    CompiledXPath xPath = new CompiledXPath("/x:things/x:thing/text()", Map.of("x", "urn:things"));
+
+    assertThat(xPath.findNodes(document).get(0).toString(), is("1"));
+    assertThat(xPath.findNodes(document).get(0).toString(), is("1"));
+  }
+
+  @Test
+  void sharesOneCompiledExpressionPerExpressionAndNamespaces() {
+    Map<String, String> namespaces = new HashMap<>(Map.of("x", "urn:things"));
+    CompiledXPath xPath = CompiledXPath.shared("/x:things/x:thing/text()", namespaces);
+
+    assertThat(
+        CompiledXPath.shared("/x:things/x:thing/text()", Map.of("x", "urn:things")),
+        sameInstance(xPath));
+    assertThat(CompiledXPath.shared("/x:things/x:thing/text()", null), not(sameInstance(xPath)));
+    assertThat(CompiledXPath.shared("/x:things/x:thing", namespaces), not(sameInstance(xPath)));
+
+    namespaces.put("x", "urn:other");
+    XmlDocument document =
+        Xml.parse("<t:things xmlns:t=\"urn:things\"><t:thing>1</t:thing></t:things>");
+    assertThat(xPath.findNodes(document).get(0).toString(), is("1"));
+  }
+
+  @Test
+  void reportsAMalformedExpressionWhenEvaluated() {
+    CompiledXPath xPath = new CompiledXPath("/things[", null);
+
+    assertThrows(XPathException.class, () -> xPath.findNodes(Xml.parse("<things/>")));
+  }
+}
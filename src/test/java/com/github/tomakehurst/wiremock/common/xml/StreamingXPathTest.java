@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.common.xml;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class StreamingXPathTest {
+
+  private static final String ENVELOPE =
+      "<s:Envelope xmlns:s=\"urn:soap\">\n"
+          + "  <s:Header><Action id=\"1\">first</Action><Action"
+          + " id=\"2\">second</Action></s:Header>\n"
+          + "  <s:Body/>\n"
+          + "</s:Envelope>";
+
+  @Test
+  void onlyCompilesDefinitePaths() {
+    assertThat(StreamingXPath.compile("/Envelope/Header/Action"), is(notNullValue()));
+    assertThat(StreamingXPath.compile("/Envelope/Header/Action/@id"), is(notNullValue()));
+    assertThat(StreamingXPath.compile("/Envelope/Header/Action/text()"), is(notNullValue()));
+
+    assertThat(StreamingXPath.compile("//Action"), is(nullValue()));
+    assertThat(StreamingXPath.compile("/Envelope/*/Action"), is(nullValue()));
+    assertThat(StreamingXPath.compile("/s:Envelope"), is(nullValue()));
+    assertThat(StreamingXPath.compile("/Envelope/Header/Action[1]"), is(nullValue()));
+    assertThat(StreamingXPath.compile("count(/Envelope)"), is(nullValue()));
+  }
+
+  @Test
+  void visitsEachSelectedValueInDocumentOrder() {
+    assertThat(values("/Envelope/Header/Action/@id", ENVELOPE), contains("1", "2"));
+    assertThat(values("/Envelope/Header/Action/text()", ENVELOPE), contains("first", "second"));
+    assertThat(values("/Envelope/Body/text()", ENVELOPE).isEmpty(), is(true));
+  }
+
+  @Test
+  void stopsWhenTheVisitorHasSeenEnough() {
+    List<String> values = new ArrayList<>();
+    boolean evaluated =
+        StreamingXPath.compile("/Envelope/Header/Action")
+            .evaluate(ENVELOPE, node -> !values.add(node));
+
+    assertThat(evaluated, is(true));
+    assertThat(values.size(), is(1));
+  }
+
+  @Test
+  void leavesDocumentsItCannotFollowToAFullEvaluation() {
+    StreamingXPath text = StreamingXPath.compile("/a/text()");
+
+    assertThat(text.evaluate("<a>one<![CDATA[two]]></a>", node -> true), is(false));
+    assertThat(text.evaluate("<!DOCTYPE a []><a>one</a>", node -> true), is(false));
+    assertThat(text.evaluate("<a>one", node -> true), is(false));
+    assertThat(
+        StreamingXPath.compile("/a/b").evaluate("<a><b/></a><junk", node -> false), is(false));
+    assertThat(
+        StreamingXPath.compile("/a/@id")
+            .evaluate("<a xmlns:p=\"urn:p\" p:id=\"1\" id=\"2\"/>", node -> true),
+        is(false));
+  }
+
+  private static List<String> values(String expression, String xml) {
+    List<String> values = new ArrayList<>();
+    assertThat(StreamingXPath.compile(expression).evaluate(xml, values::add), is(true));
+    return values;
+  }
+}
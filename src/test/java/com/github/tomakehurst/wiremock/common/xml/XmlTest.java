@@ -17,9 +17,18 @@ package com.github.tomakehurst.wiremock.common.xml;
 
 import static com.github.tomakehurst.wiremock.testsupport.WireMatchers.equalsMultiLine;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
 
 import com.github.tomakehurst.wiremock.common.ListOrSingle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledForJreRange;
 import org.junit.jupiter.api.condition.JRE;
@@ -65,6 +74,39 @@ public class XmlTest {
     assertThat(nodes.get(0).getAttributes().get("fl:group"), is("555"));
   }
 
+  @Test
+  public void buildsDocumentsThatSeveralThreadsCanReadAtOnce() throws Exception {
+    String xml =
+        "<things xmlns:s=\"https://stuff.biz\">"
+            + "<s:thing>1</s:thing>".repeat(200)
+            + "<s:thing>2</s:thing>"
+            + "</things>";
+    XmlDocument xmlDocument = Xml.parse(xml);
+
+    assertThat(xmlDocument.getDocument().getClass().getSimpleName(), not(startsWith("Deferred")));
+    assertThat(
+        xmlDocument.getNamespaceAwareDocument().getClass().getSimpleName(),
+        not(startsWith("Deferred")));
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<String>> lastThings = new ArrayList<>();
+      for (int i = 0; i < 32; i++) {
+        String expression = i % 2 == 0 ? "/things/thing[last()]" : "/things/s:thing[last()]";
+        Map<String, String> namespaces = i % 2 == 0 ? null : Map.of("s", "https://stuff.biz");
+        lastThings.add(
+            executor.submit(
+                () -> xmlDocument.findNodes(expression, namespaces).getFirst().toString()));
+      }
+
+      for (Future<String> lastThing : lastThings) {
+        assertThat(lastThing.get(), containsString(">2<"));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   @Test
   public void prettyPrintsDocument() {
     String xml = "<one><two><three name='3'/></two></one>";
@@ -113,8 +155,11 @@ public class XmlTest {
   @DisabledForJreRange(
       min = JRE.JAVA_17,
       disabledReason =
-          "SaxSource unavailable to parse undeclared namespace prefix, due to "
-              + "IllegalAccessException: class com.github.tomakehurst.wiremock.common.xml.XmlNode cannot access class com.sun.org.apache.xalan.internal.xsltc.trax.DOM2SAX (in module java.xml) because module java.xml does not export com.sun.org.apache.xalan.internal.xsltc.trax to unnamed module @2892dae4")
+          "SaxSource unavailable to parse undeclared namespace prefix, due to"
+              + " IllegalAccessException: class com.github.tomakehurst.wiremock.common.xml.XmlNode"
+              + " cannot access class com.sun.org.apache.xalan.internal.xsltc.trax.DOM2SAX (in"
+              + " module java.xml) because module java.xml does not export"
+              + " com.sun.org.apache.xalan.internal.xsltc.trax to unnamed module @2892dae4")
   public void printsNamespacedXmlWhenPrefixDeclarationNotInScope() {
     String xml =
         "<?xml version=\"1.0\"?>\n"
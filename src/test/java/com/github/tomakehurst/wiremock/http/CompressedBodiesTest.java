@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http;
+
+import static com.github.tomakehurst.wiremock.common.Gzip.unGzipToString;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.github.tomakehurst.wiremock.common.StreamSources;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.InflaterInputStream;
+import org.junit.jupiter.api.Test;
+
+public class CompressedBodiesTest {
+
+  @Test
+  void prefersGzipUnlessDeflateIsWeightedHigher() {
+    assertThat(CompressedBodies.preferredEncoding("gzip, deflate, br"), is("gzip"));
+    assertThat(CompressedBodies.preferredEncoding("deflate, gzip"), is("gzip"));
+    assertThat(CompressedBodies.preferredEncoding("gzip;q=0.5, deflate"), is("deflate"));
+    assertThat(CompressedBodies.preferredEncoding("deflate"), is("deflate"));
+    assertThat(CompressedBodies.preferredEncoding("GZIP"), is("gzip"));
+  }
+
+  @Test
+  void acceptsNeitherWhenBothAreRefusedOrAbsent() {
+    assertThat(CompressedBodies.preferredEncoding(null), is(nullValue()));
+    assertThat(CompressedBodies.preferredEncoding("br, identity"), is(nullValue()));
+    assertThat(CompressedBodies.preferredEncoding("gzip;q=0, deflate;q=0"), is(nullValue()));
+  }
+
+  @Test
+  void compressesTheBodyOnceForEachEncoding() throws Exception {
+    AtomicInteger reads = new AtomicInteger();
+    CompressedBodies compressedBodies =
+        new CompressedBodies(
+            () -> {
+              reads.incrementAndGet();
+              return StreamSources.forString("body text", StandardCharsets.UTF_8).getStream();
+            });
+
+    byte[] gzipped = compressedBodies.encodedAs(CompressedBodies.GZIP);
+    assertThat(compressedBodies.encodedAs(CompressedBodies.GZIP), sameInstance(gzipped));
+    assertThat(unGzipToString(gzipped), is("body text"));
+
+    byte[] deflated = compressedBodies.encodedAs(CompressedBodies.DEFLATE);
+    assertThat(
+        new String(
+            new InflaterInputStream(new ByteArrayInputStream(deflated)).readAllBytes(),
+            StandardCharsets.UTF_8),
+        is("body text"));
+
+    assertThat(reads.get(), is(2));
+  }
+}
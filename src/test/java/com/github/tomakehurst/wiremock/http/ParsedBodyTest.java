@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http;
+
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.tomakehurst.wiremock.common.JsonException;
+import com.github.tomakehurst.wiremock.common.xml.XmlException;
+import com.github.tomakehurst.wiremock.extension.requestfilter.RequestWrapper;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class ParsedBodyTest {
+
+  @Test
+  void parsesEachFormOnlyOnce() {
+    ParsedBody body = ParsedBody.of("{\"things\": [1, 2, 3]}");
+
+    assertThat(body.asJsonTree(), sameInstance(body.asJsonTree()));
+    assertThat(body.asJsonPathDocument(), sameInstance(body.asJsonPathDocument()));
+    assertThat(body.asJsonTree().get("things").size(), is(3));
+  }
+
+  @Test
+  void parsesXmlDocumentOnlyOnce() {
+    ParsedBody body = ParsedBody.of("<things><thing>1</thing></things>");
+
+    assertThat(body.asXmlDocument(), sameInstance(body.asXmlDocument()));
+  }
+
+  @Test
+  void canonicalisesXmlOnlyOnceAndWithoutFailing() {
+    ParsedBody body = ParsedBody.of("<things><thing>1</thing></things>");
+
+    assertThat(body.asCanonicalXml(), sameInstance(body.asCanonicalXml()));
+    assertThat(ParsedBody.of("not xml").asCanonicalXml(), is(nullValue()));
+  }
+
+  @Test
+  void rethrowsTheSameParseFailureToEveryCaller() {
+    ParsedBody body = ParsedBody.of("not json or xml");
+
+    JsonException first = assertThrows(JsonException.class, body::asJsonTree);
+    JsonException second = assertThrows(JsonException.class, body::asJsonTree);
+    assertThat(second, sameInstance(first));
+
+    assertThrows(XmlException.class, body::asXmlDocument);
+  }
+
+  @Test
+  void prefersStreamingOnlyForLargeBodiesNotYetParsed() {
+    String padding = " ".repeat(ParsedBody.STREAMING_THRESHOLD);
+    ParsedBody json = ParsedBody.of("{\"things\": [1, 2, 3]}" + padding);
+    ParsedBody xml = ParsedBody.of("<things><thing>1</thing></things>" + padding);
+
+    assertThat(
+        ParsedBody.of("{\"things\": [1, 2, 3]}").prefersStreamingToJsonPathDocument(), is(false));
+    assertThat(json.prefersStreamingToJsonPathDocument(), is(true));
+    assertThat(xml.prefersStreamingToXmlDocument(), is(true));
+
+    json.asJsonPathDocument();
+    xml.asXmlDocument();
+
+    assertThat(json.prefersStreamingToJsonPathDocument(), is(false));
+    assertThat(xml.prefersStreamingToXmlDocument(), is(false));
+  }
+
+  @Test
+  void treatsAnEmptyRequestBodyAsAbsent() {
+    Request request = mockRequest().body("");
+
+    assertThat(ParsedBody.fromRequest(request).asString(), is(nullValue()));
+  }
+
+  @Test
+  void keepsTheUndecodedBodyOnlyWhenItIsUtf8() {
+    byte[] bytes = "{\"name\": \"Zoë\"}".getBytes(UTF_8);
+
+    ParsedBody utf8 =
+        ParsedBody.fromRequest(
+            LoggedRequest.createFrom(
+                mockRequest()
+                    .header("Content-Type", "application/json; charset=utf-8")
+                    .body(bytes)));
+    ParsedBody unspecified =
+        ParsedBody.fromRequest(LoggedRequest.createFrom(mockRequest().body(bytes)));
+    ParsedBody latin1 =
+        ParsedBody.fromRequest(
+            LoggedRequest.createFrom(
+                mockRequest()
+                    .header("Content-Type", "text/plain; charset=ISO-8859-1")
+                    .body(bytes)));
+
+    assertThat(utf8.asUtf8Bytes(), sameInstance(bytes));
+    assertThat(unspecified.asUtf8Bytes(), sameInstance(bytes));
+    assertThat(latin1.asUtf8Bytes(), is(nullValue()));
+    assertThat(utf8.asString(), is("{\"name\": \"Zoë\"}"));
+  }
+
+  @Test
+  void decodesTheRequestBodyOnlyWhenAskedAndOnlyOnce() {
+    AtomicInteger decodes = new AtomicInteger();
+    Request request =
+        new RequestWrapper(mockRequest().body("body")) {
+          @Override
+          public String getBodyAsString() {
+            decodes.incrementAndGet();
+            return super.getBodyAsString();
+          }
+        };
+
+    ParsedBody body = ParsedBody.fromRequest(request);
+    assertThat(decodes.get(), is(0));
+
+    assertThat(body.asString(), is("body"));
+    assertThat(body.asString(), is("body"));
+    assertThat(decodes.get(), is(1));
+  }
+
+  @Test
+  void loggedRequestSharesOneParsedBodyBetweenCallers() {
+    LoggedRequest request = LoggedRequest.createFrom(mockRequest().body("{\"id\": 1}"));
+
+    assertThat(request.getParsedBody(), sameInstance(request.getParsedBody()));
+    assertThat(request.getParsedBody().asJsonTree().get("id").asInt(), is(1));
+  }
+}
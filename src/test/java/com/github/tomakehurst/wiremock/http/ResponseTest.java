@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.http;
+
+import static com.github.tomakehurst.wiremock.http.Response.response;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.github.tomakehurst.wiremock.common.InputStreamSource;
+import com.github.tomakehurst.wiremock.common.Limit;
+import com.github.tomakehurst.wiremock.common.StreamSources;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ResponseTest {
+
+  @Test
+  void readsABodyOnceToRecordMeasureAndSendIt() throws Exception {
+    AtomicInteger reads = new AtomicInteger();
+    InputStreamSource source =
+        () -> {
+          reads.incrementAndGet();
+          return StreamSources.forString("streamed body", StandardCharsets.UTF_8).getStream();
+        };
+    Response response = response().body(source).build().withBodyReadOnce(Limit.UNLIMITED);
+
+    LoggedResponse loggedResponse = LoggedResponse.from(response, Limit.UNLIMITED);
+    ByteArrayOutputStream sent = new ByteArrayOutputStream();
+    response.writeBodyTo(sent);
+
+    assertThat(response.getBodyLength(), is(13L));
+    assertThat(loggedResponse.getBodyAsString(), is("streamed body"));
+    assertThat(sent.toString(StandardCharsets.UTF_8), is("streamed body"));
+    assertThat(reads.get(), is(1));
+  }
+
+  @Test
+  void keepsABodyFileAFileForChunkingPurposesOnceItHasBeenRead(@TempDir Path root)
+      throws Exception {
+    Path bodyFile = Files.writeString(root.resolve("body.txt"), "file body");
+    Response response = response().body(StreamSources.forFile(bodyFile)).build();
+
+    Response readOnce = response.withBodyReadOnce(Limit.UNLIMITED);
+    Files.delete(bodyFile);
+
+    assertThat(readOnce.hasInlineBody(), is(false));
+    assertThat(readOnce.getBodyAsString(), is("file body"));
+  }
+
+  @Test
+  void leavesBodiesTooLargeToRecordInFullWhereTheyAre(@TempDir Path root) throws Exception {
+    Path bodyFile = Files.writeString(root.resolve("body.txt"), "a larger file body");
+    Response response = response().body(StreamSources.forFile(bodyFile)).build();
+
+    assertThat(response.withBodyReadOnce(new Limit(5)), sameInstance(response));
+    assertThat(LoggedResponse.from(response, new Limit(5)).getBodyAsString(), is("a lar"));
+  }
+
+  @Test
+  void recordsACopyOfABodyInMemory() {
+    byte[] body = "inline body".getBytes(StandardCharsets.UTF_8);
+    Response response = response().body(body).build();
+
+    assertThat(response.withBodyReadOnce(Limit.UNLIMITED), sameInstance(response));
+    LoggedResponse loggedResponse = LoggedResponse.from(response, Limit.UNLIMITED);
+    assertThat(loggedResponse.getBody(), not(sameInstance(body)));
+
+    loggedResponse.getBody()[0] = 'I';
+    assertThat(response.getBodyAsString(), is("inline body"));
+  }
+}
@@ -15,23 +15,42 @@
  */
 package com.github.tomakehurst.wiremock.http;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.common.Gzip.unGzipToString;
 import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
 import static com.github.tomakehurst.wiremock.stubbing.ServeEventFactory.newPostMatchServeEvent;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.when;
 
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.common.StreamSources;
 import com.github.tomakehurst.wiremock.extension.ResponseTransformer;
 import com.github.tomakehurst.wiremock.extension.ResponseTransformerV2;
 import com.github.tomakehurst.wiremock.global.GlobalSettings;
 import com.github.tomakehurst.wiremock.store.BlobStore;
+import com.github.tomakehurst.wiremock.store.CachingBlobStore;
 import com.github.tomakehurst.wiremock.store.InMemorySettingsStore;
 import com.github.tomakehurst.wiremock.store.SettingsStore;
 import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 public class StubResponseRendererTest {
@@ -109,6 +128,120 @@ public class StubResponseRendererTest {
     assertThat(response.getInitialDelay(), is(2123L));
   }
 
+  @Test
+  public void rendersAStaticStubResponseOnceAndReusesIt() {
+    StubMapping stubMapping = get("/static").willReturn(ok("static body")).build();
+
+    Response first = stubResponseRenderer.render(servedFrom(stubMapping));
+    Response second = stubResponseRenderer.render(servedFrom(stubMapping));
+
+    assertThat(second, sameInstance(first));
+    assertThat(second.getBodyAsString(), is("static body"));
+    assertThat(
+        second.getHeaders().getHeader("Matched-Stub-Id").firstValue(),
+        is(stubMapping.getId().toString()));
+  }
+
+  @Test
+  public void rendersAStaticStubResponseAgainOnceTheStubIsEdited() {
+    StubMapping stubMapping = get("/static").willReturn(ok("before")).build();
+    Response before = stubResponseRenderer.render(servedFrom(stubMapping));
+
+    stubMapping.setResponse(ok("after").build());
+    Response after = stubResponseRenderer.render(servedFrom(stubMapping));
+
+    assertThat(before.getBodyAsString(), is("before"));
+    assertThat(after.getBodyAsString(), is("after"));
+  }
+
+  @Test
+  public void doesNotReuseResponsesWithDelays() {
+    settingsStore.set(GlobalSettings.builder().delayDistribution(() -> 123).build());
+    StubMapping stubMapping = get("/delayed").willReturn(ok("body")).build();
+
+    Response first = stubResponseRenderer.render(servedFrom(stubMapping));
+    Response second = stubResponseRenderer.render(servedFrom(stubMapping));
+
+    assertThat(second, not(sameInstance(first)));
+    assertThat(second.getInitialDelay(), is(123L));
+  }
+
+  @Test
+  public void keepsTheCompressedBodiesOfABodyFileUntilTheFileChanges(@TempDir Path root)
+      throws Exception {
+    Path bodyFile = Files.writeString(root.resolve("body.txt"), "before");
+    when(filesBlobStore.getStreamSource("body.txt"))
+        .thenAnswer(invocation -> StreamSources.forFile(bodyFile));
+    StubMapping stubMapping = get("/file").willReturn(aResponse().withBodyFile("body.txt")).build();
+
+    CompressedBodies first =
+        stubResponseRenderer.render(servedFrom(stubMapping)).getCompressedBodies();
+    CompressedBodies second =
+        stubResponseRenderer.render(servedFrom(stubMapping)).getCompressedBodies();
+    assertThat(second, sameInstance(first));
+    assertThat(unGzipToString(second.encodedAs(CompressedBodies.GZIP)), is("before"));
+
+    Files.writeString(bodyFile, "after!");
+    Files.setLastModifiedTime(bodyFile, FileTime.from(Instant.now().plusSeconds(10)));
+
+    CompressedBodies afterChange =
+        stubResponseRenderer.render(servedFrom(stubMapping)).getCompressedBodies();
+    assertThat(afterChange, not(sameInstance(first)));
+    assertThat(unGzipToString(afterChange.encodedAs(CompressedBodies.GZIP)), is("after!"));
+  }
+
+  @Test
+  public void onlyKeepsCompressedBodiesOfBodyFilesWithinTheCacheBudget(@TempDir Path root)
+      throws Exception {
+    bodyFile(root, "small.txt", "small");
+    bodyFile(root, "large.txt", "large".repeat(20));
+    StubResponseRenderer renderer =
+        new StubResponseRenderer(
+            new CachingBlobStore(filesBlobStore, 50),
+            settingsStore,
+            null,
+            responseTransformers,
+            v2ResponseTransformers);
+
+    CompressedBodies small =
+        renderer
+            .render(servedFrom(get("/small").willReturn(aResponse().withBodyFile("small.txt"))))
+            .getCompressedBodies();
+    CompressedBodies large =
+        renderer
+            .render(servedFrom(get("/large").willReturn(aResponse().withBodyFile("large.txt"))))
+            .getCompressedBodies();
+
+    assertThat(unGzipToString(small.encodedAs(CompressedBodies.GZIP)), is("small"));
+    assertThat(large, is(nullValue()));
+  }
+
+  @Test
+  public void doesNotCompressBodiesThatAreTransformed() {
+    StubMapping stubMapping =
+        get("/templated").willReturn(ok("{{request.path}}").withTransformers("t")).build();
+
+    Response response = stubResponseRenderer.render(servedFrom(stubMapping));
+
+    assertThat(response.getCompressedBodies(), is(nullValue()));
+  }
+
+  private void bodyFile(Path root, String name, String contents) throws IOException {
+    Path path = Files.writeString(root.resolve(name), contents);
+    when(filesBlobStore.getStreamSource(name))
+        .thenAnswer(invocation -> StreamSources.forFile(path));
+    when(filesBlobStore.get(name)).thenAnswer(invocation -> Optional.of(Files.readAllBytes(path)));
+  }
+
+  private static ServeEvent servedFrom(MappingBuilder mappingBuilder) {
+    return servedFrom(mappingBuilder.build());
+  }
+
+  private static ServeEvent servedFrom(StubMapping stubMapping) {
+    return newPostMatchServeEvent(
+        mockRequest(), ResponseDefinition.copyOf(stubMapping.getResponse()), stubMapping);
+  }
+
   private ServeEvent createServeEvent(Integer fixedDelayMillis) {
     return newPostMatchServeEvent(
         mockRequest(),
@@ -15,11 +15,16 @@
  */
 package com.github.tomakehurst.wiremock.matching;
 
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.http.ParsedBody;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import org.junit.jupiter.api.Test;
 
 public class ContainsPatternTest {
@@ -36,6 +41,37 @@ public class ContainsPatternTest {
     assertThat(matchResult.getDistance(), is(1.0));
   }
 
+  @Test
+  public void matchesUtf8BodiesWithoutDecodingThem() {
+    StringValuePattern pattern = WireMock.containing("Zoë");
+
+    assertTrue(pattern.matchBody(utf8Body("name: Zoë Smith")).isExactMatch());
+    assertFalse(pattern.matchBody(utf8Body("name: Zoe Smith")).isExactMatch());
+    assertFalse(pattern.matchBody(utf8Body("Zo")).isExactMatch());
+  }
+
+  @Test
+  public void agreesWithDecodedMatchingOnMalformedUtf8Bodies() {
+    byte[] malformed = {'Z', 'o', (byte) 0xC3, 'x', (byte) 0xEB, '!'};
+    ParsedBody body =
+        ParsedBody.fromRequest(
+            LoggedRequest.createFrom(
+                mockRequest().header("Content-Type", "text/plain; charset=utf-8").body(malformed)));
+
+    assertThat(body.asUtf8Bytes(), notNullValue());
+    assertFalse(WireMock.containing("Zoë").matchBody(body).isExactMatch());
+    assertTrue(WireMock.containing("x").matchBody(body).isExactMatch());
+    assertTrue(WireMock.containing("Zo\uFFFD").matchBody(body).isExactMatch());
+  }
+
+  private static ParsedBody utf8Body(String body) {
+    return ParsedBody.fromRequest(
+        LoggedRequest.createFrom(
+            mockRequest()
+                .header("Content-Type", "text/plain; charset=utf-8")
+                .body(body.getBytes(UTF_8))));
+  }
+
   @Test
   public void objectsShouldBeEqualOnSameExpectedValue() {
     ContainsPattern a = new ContainsPattern("someString");
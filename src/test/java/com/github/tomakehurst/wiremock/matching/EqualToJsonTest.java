@@ -478,9 +478,11 @@ public class EqualToJsonTest {
   @Test
   public void doesNotBreakWhenComparingNestedArraysOfDifferentSizes() {
     String expected =
-        "{\"columns\": [{\"name\": \"agreementnumber\",\"a\": 1},{\"name\": \"utilizerstatus\",\"b\": 2}]}";
+        "{\"columns\": [{\"name\": \"agreementnumber\",\"a\": 1},{\"name\":"
+            + " \"utilizerstatus\",\"b\": 2}]}";
     String actual =
-        "{\"columns\": [{\"name\": \"x\",\"y\": 3},{\"name\": \"agreementnumber\",\"a\": 1},{\"name\": \"agreementstatus\",\"b\": 2}]}";
+        "{\"columns\": [{\"name\": \"x\",\"y\": 3},{\"name\": \"agreementnumber\",\"a\":"
+            + " 1},{\"name\": \"agreementstatus\",\"b\": 2}]}";
 
     MatchResult match = new EqualToJsonPattern(expected, false, false).match(actual);
 
@@ -589,6 +591,37 @@ public class EqualToJsonTest {
     assertThat(nonMatch.isExactMatch(), is(false));
   }
 
+  @Test
+  public void comparesNumbersByValueRegardlessOfHowTheyAreWritten() {
+    assertTrue(WireMock.equalToJson("{\"num\": 1}").match("{\"num\": 1.0}").isExactMatch());
+    assertTrue(WireMock.equalToJson("{\"num\": 1.5}").match("{\"num\": 15e-1}").isExactMatch());
+    assertFalse(WireMock.equalToJson("{\"num\": 1}").match("{\"num\": 1.01}").isExactMatch());
+  }
+
+  @Test
+  public void matchesEachRepeatedElementOnceWhenIgnoringArrayOrder() {
+    StringValuePattern pattern = WireMock.equalToJson("[1, 2, 2, {\"a\": [3, 4]}]", true, false);
+
+    assertTrue(pattern.match("[{\"a\": [4, 3]}, 2, 1, 2]").isExactMatch());
+    assertFalse(pattern.match("[{\"a\": [4, 3]}, 2, 1, 1]").isExactMatch());
+  }
+
+  @Test
+  public void onlyIgnoresExtraArrayElementsAfterTheExpectedOnesWhenNotIgnoringOrder() {
+    StringValuePattern pattern = WireMock.equalToJson("[1, 2]", false, true);
+
+    assertTrue(pattern.match("[1, 2, 3]").isExactMatch());
+    assertFalse(pattern.match("[0, 1, 2]").isExactMatch());
+  }
+
+  @Test
+  public void findsADistinctActualElementForEachExpectedOneWhenIgnoringOrderAndExtraElements() {
+    StringValuePattern pattern = WireMock.equalToJson("[{\"a\": 1}, {\"b\": 2}]", true, true);
+
+    assertTrue(pattern.match("[{\"a\": 1, \"b\": 2}, {\"a\": 1}, {\"c\": 3}]").isExactMatch());
+    assertFalse(pattern.match("[{\"a\": 1, \"b\": 2}, {\"c\": 3}]").isExactMatch());
+  }
+
   @Test
   public void objectsShouldBeEqualOnSameExpectedValue() {
     EqualToJsonPattern a =
@@ -617,12 +650,7 @@ public class EqualToJsonTest {
 
     assertThat(match.getSubEvents().size(), is(1));
     Errors.Error error =
-        match.getSubEvents().stream()
-            .findFirst()
-            .get()
-            .getDataAs(Errors.class)
-            .getErrors()
-            .stream()
+        match.getSubEvents().stream().findFirst().get().getDataAs(Errors.class).getErrors().stream()
             .findFirst()
             .get();
     assertThat(error.getDetail(), startsWith("Unexpected end-of-input"));
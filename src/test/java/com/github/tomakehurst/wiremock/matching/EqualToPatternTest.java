@@ -15,6 +15,8 @@
  */
 package com.github.tomakehurst.wiremock.matching;
 
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -24,6 +26,8 @@ import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.Json;
 import com.github.tomakehurst.wiremock.common.JsonException;
+import com.github.tomakehurst.wiremock.http.ParsedBody;
+import com.github.tomakehurst.wiremock.verification.LoggedRequest;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +51,26 @@ public class EqualToPatternTest {
     assertThat(pattern.match("matchthis").getDistance(), is(0.0));
   }
 
+  @Test
+  public void comparesUtf8BodiesByteForByteAndScoresMissesAsBefore() {
+    StringValuePattern pattern = WireMock.equalTo("matchthisé");
+
+    assertThat(pattern.matchBody(utf8Body("matchthisé")).isExactMatch(), is(true));
+    assertThat(pattern.matchBody(utf8Body("matchthisé")).getDistance(), is(0.0));
+
+    MatchResult miss = pattern.matchBody(utf8Body("matchthisébadlydone"));
+    assertThat(miss.isExactMatch(), is(false));
+    assertThat(miss.getDistance(), is(pattern.match("matchthisébadlydone").getDistance()));
+  }
+
+  private static ParsedBody utf8Body(String body) {
+    return ParsedBody.fromRequest(
+        LoggedRequest.createFrom(
+            mockRequest()
+                .header("Content-Type", "text/plain; charset=utf-8")
+                .body(body.getBytes(UTF_8))));
+  }
+
   @Test
   public void matchesCaseInsensitive() {
     StringValuePattern pattern = WireMock.equalToIgnoreCase("MaTchtHis");
@@ -136,7 +136,8 @@ public class EqualToXmlPatternTest {
     assertTrue(
         pattern
             .match(
-                "<things><thing characteristic=\"tepid\"/><thing characteristic=\"tedious\"/></things>")
+                "<things><thing characteristic=\"tepid\"/><thing"
+                    + " characteristic=\"tedious\"/></things>")
             .isExactMatch());
   }
 
@@ -176,7 +177,9 @@ public class EqualToXmlPatternTest {
     EqualToXmlPattern pattern =
         new EqualToXmlPattern(
             "<?xml version=\"1.0\" encoding=\"utf-8\"?>\n"
-                + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">\n"
+                + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\""
+                + " xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\""
+                + " xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">\n"
                 + "    <soap:Body>\n"
                 + "        <stuff xmlns=\"https://example.com/mynamespace\">\n"
                 + "            <things />\n"
@@ -187,7 +190,9 @@ public class EqualToXmlPatternTest {
     MatchResult match =
         pattern.match(
             "<?xml version=\"1.0\" encoding=\"utf-8\"?>\n"
-                + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">\n"
+                + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\""
+                + " xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\""
+                + " xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">\n"
                 + "    <soap:Body>\n"
                 + "        <stuff xmlns=\"https://example.com/mynamespace\">\n"
                 + "            <things />\n"
@@ -204,7 +209,9 @@ public class EqualToXmlPatternTest {
     EqualToXmlPattern pattern =
         new EqualToXmlPattern(
             "<?xml version=\"1.0\" encoding=\"utf-8\"?>\n"
-                + "<shampoo:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:shampoo=\"http://schemas.xmlsoap.org/soap/envelope/\">\n"
+                + "<shampoo:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\""
+                + " xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\""
+                + " xmlns:shampoo=\"http://schemas.xmlsoap.org/soap/envelope/\">\n"
                 + "    <shampoo:Body>\n"
                 + "        <stuff xmlns=\"https://example.com/mynamespace\">\n"
                 + "            <things />\n"
@@ -215,7 +222,9 @@ public class EqualToXmlPatternTest {
     MatchResult match =
         pattern.match(
             "<?xml version=\"1.0\" encoding=\"utf-8\"?>\n"
-                + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">\n"
+                + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\""
+                + " xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\""
+                + " xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">\n"
                 + "    <soap:Body>\n"
                 + "        <stuff xmlns=\"https://example.com/mynamespace\">\n"
                 + "            <things />\n"
@@ -232,7 +241,9 @@ public class EqualToXmlPatternTest {
     EqualToXmlPattern pattern =
         new EqualToXmlPattern(
             "<?xml version=\"1.0\" encoding=\"utf-8\"?>\n"
-                + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">\n"
+                + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\""
+                + " xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\""
+                + " xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">\n"
                 + "    <soap:Body>\n"
                 + "        <stuff xmlns=\"https://example.com/mynamespace\">\n"
                 + "            <things />\n"
@@ -244,7 +255,9 @@ public class EqualToXmlPatternTest {
         pattern
             .match(
                 "<?xml version=\"1.0\" encoding=\"utf-8\"?>\n"
-                    + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\" xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">\n"
+                    + "<soap:Envelope xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\""
+                    + " xmlns:xsd=\"http://www.w3.org/2001/XMLSchema\""
+                    + " xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\">\n"
                     + "    <soap:Body>\n"
                     + "        <stuff xmlns=\"https://example.com/the-wrong-namespace\">\n"
                     + "            <things />\n"
@@ -282,6 +295,24 @@ public class EqualToXmlPatternTest {
             .isExactMatch());
   }
 
+  @Test
+  public void returnsNoMatchWhenElementsWithTheSameNameAreInDifferentOrder() {
+    EqualToXmlPattern pattern =
+        new EqualToXmlPattern("<items><item>1</item><item>2</item></items>");
+
+    assertFalse(pattern.match("<items><item>2</item><item>1</item></items>").isExactMatch());
+    assertTrue(
+        pattern.match("<items>\n  <item>1</item>\n  <item>2</item>\n</items>").isExactMatch());
+  }
+
+  @Test
+  public void returnsExactMatchWhenTextAndAttributeValuesDifferOnlyInSurroundingWhitespace() {
+    EqualToXmlPattern pattern = new EqualToXmlPattern("<thing id=\"1\">Hello</thing>");
+
+    assertTrue(pattern.match("<thing id=\" 1 \">\n  Hello\n</thing>").isExactMatch());
+    assertFalse(pattern.match("<thing id=\"1\">Hello there</thing>").isExactMatch());
+  }
+
   @Test
   public void returnsNoMatchWhenTagNamesDifferAndContentIsSame() {
     final EqualToXmlPattern pattern = new EqualToXmlPattern("<one>Hello</one>");
@@ -302,7 +333,8 @@ public class EqualToXmlPatternTest {
   @Test
   public void doesNotFetchDtdBecauseItCouldResultInAFailedMatch() {
     String xmlWithDtdThatCannotBeFetched =
-        "<!DOCTYPE my_request SYSTEM \"https://thishostname.doesnotexist.com/one.dtd\"><do_request/>";
+        "<!DOCTYPE my_request SYSTEM"
+            + " \"https://thishostname.doesnotexist.com/one.dtd\"><do_request/>";
     EqualToXmlPattern pattern = new EqualToXmlPattern(xmlWithDtdThatCannotBeFetched);
     assertTrue(pattern.match(xmlWithDtdThatCannotBeFetched).isExactMatch());
   }
@@ -423,7 +455,8 @@ public class EqualToXmlPatternTest {
                 + "  \"enablePlaceholders\": true,\n"
                 + "  \"placeholderOpeningDelimiterRegex\": \"[\",\n"
                 + "  \"placeholderClosingDelimiterRegex\": \"]\",\n"
-                + "  \"exemptedComparisons\": [\"SCHEMA_LOCATION\", \"ATTR_VALUE\", \"NAMESPACE_URI\"]\n"
+                + "  \"exemptedComparisons\": [\"SCHEMA_LOCATION\", \"ATTR_VALUE\","
+                + " \"NAMESPACE_URI\"]\n"
                 + "}",
             JSONCompareMode.NON_EXTENSIBLE));
   }
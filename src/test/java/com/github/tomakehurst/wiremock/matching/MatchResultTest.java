@@ -16,8 +16,11 @@
 package com.github.tomakehurst.wiremock.matching;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 
+import com.github.tomakehurst.wiremock.stubbing.SubEvent;
 import org.junit.jupiter.api.Test;
 
 public class MatchResultTest {
@@ -68,6 +71,37 @@ public class MatchResultTest {
     assertThat(matchResult.isExactMatch(), is(false));
   }
 
+  @Test
+  public void aggregatesSubEventsAppendedByChildrenDuringEvaluation() {
+    final SubEvent warning = SubEvent.warning("Something was not quite right");
+    MatchResult lazyResult =
+        new MatchResult() {
+          @Override
+          public boolean isExactMatch() {
+            appendSubEvent(warning);
+            return true;
+          }
+
+          @Override
+          public double getDistance() {
+            return 0;
+          }
+        };
+
+    MatchResult matchResult = MatchResult.aggregate(MatchResult.exactMatch(), lazyResult);
+    assertThat(matchResult.getSubEvents(), is(empty()));
+
+    assertThat(matchResult.isExactMatch(), is(true));
+    assertThat(matchResult.getSubEvents(), contains(warning));
+  }
+
+  @Test
+  public void returnsNoSubEventsForSharedExactAndNoMatchResults() {
+    assertThat(MatchResult.exactMatch().getSubEvents(), is(empty()));
+    assertThat(MatchResult.noMatch().getSubEvents(), is(empty()));
+    assertThat(MatchResult.partialMatch(0).isExactMatch(), is(true));
+  }
+
   public static class ExceptionThrowingMatchResult extends MatchResult {
 
     @Override
@@ -29,6 +29,7 @@ import static org.mockito.Mockito.verify;
 
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.*;
+import com.github.tomakehurst.wiremock.http.ParsedBody;
 import com.github.tomakehurst.wiremock.testsupport.ServeEventChecks;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
@@ -108,7 +109,10 @@ public class MatchesJsonPathPatternTest {
     checkMessage(
         match,
         WARNING,
-        "Warning: JSON path expression '$.something' failed to match document 'Not a JSON document' because of error 'Expected to find an object with property ['something'] in path $ but found 'java.lang.String'. This is not a json object according to the JsonProvider: 'com.jayway.jsonpath.spi.json.JsonSmartJsonProvider'.'");
+        "Warning: JSON path expression '$.something' failed to match document 'Not a JSON document'"
+            + " because of error 'Expected to find an object with property ['something'] in path $"
+            + " but found 'java.lang.String'. This is not a json object according to the"
+            + " JsonProvider: 'com.jayway.jsonpath.spi.json.JsonSmartJsonProvider'.'");
   }
 
   private static void checkWarningMessageAndEvent(
@@ -126,7 +130,8 @@ public class MatchesJsonPathPatternTest {
     checkMessage(
         matchResult,
         WARNING,
-        "Warning: JSON path expression '$.something' failed to match document '{ \"nothing\": 1 }' because of error 'No results for path: $['something']'");
+        "Warning: JSON path expression '$.something' failed to match document '{ \"nothing\": 1 }'"
+            + " because of error 'No results for path: $['something']'");
   }
 
   @Test
@@ -140,7 +145,8 @@ public class MatchesJsonPathPatternTest {
     checkWarningMessageAndEvent(
         notifier,
         matchResult,
-        "Warning: JSON path expression '$.something' failed to match document '<xml-stuff />' because it's not JSON but probably XML");
+        "Warning: JSON path expression '$.something' failed to match document '<xml-stuff />'"
+            + " because it's not JSON but probably XML");
   }
 
   @Test
@@ -152,7 +158,8 @@ public class MatchesJsonPathPatternTest {
     assertFalse(matchResult.isExactMatch(), "Expected the match to fail");
     ServeEventChecks.checkJsonError(
         matchResult,
-        "Unexpected end-of-input in field name\n at [Source: (String)\"{ \"bad:\"; line: 1, column: 8]");
+        "Unexpected end-of-input in field name\n"
+            + " at [Source: (String)\"{ \"bad:\"; line: 1, column: 8]");
   }
 
   @Test
@@ -165,6 +172,50 @@ public class MatchesJsonPathPatternTest {
     assertFalse(match.isExactMatch());
   }
 
+  @Test
+  public void evaluatesOnePatternAgainstManyDocuments() {
+    StringValuePattern pattern = WireMock.matchingJsonPath("$.things[?(@.id == 2)].name");
+
+    assertTrue(pattern.match("{\"things\": [{\"id\": 2, \"name\": \"two\"}]}").isExactMatch());
+    assertFalse(pattern.match("{\"things\": [{\"id\": 3, \"name\": \"three\"}]}").isExactMatch());
+    assertTrue(pattern.match("{\"things\": [{\"id\": 2, \"name\": \"deux\"}]}").isExactMatch());
+  }
+
+  @Test
+  public void matchesDefinitePathsInLargeDocumentsAsAFullParseWould() {
+    String items = "[" + "1, ".repeat(ParsedBody.STREAMING_THRESHOLD / 3) + "1]";
+    String json = "{\"header\": {\"type\": \"ingest\"}, \"items\": " + items + "}";
+
+    assertTrue(WireMock.matchingJsonPath("$.header.type").match(json).isExactMatch());
+    assertTrue(
+        WireMock.matchingJsonPath("$.header.type", equalTo("ingest")).match(json).isExactMatch());
+
+    String truncatedJson = "{\"header\": {\"type\": \"ingest\"}, \"items\": " + items;
+    assertFalse(WireMock.matchingJsonPath("$.header.type").match(truncatedJson).isExactMatch());
+
+    String repeatedJson =
+        "{\"header\": {\"type\": \"ingest\", \"type\": \"query\"}, \"items\": " + items + "}";
+    assertFalse(
+        WireMock.matchingJsonPath("$.header.type", equalTo("ingest"))
+            .match(repeatedJson)
+            .isExactMatch());
+    assertTrue(
+        WireMock.matchingJsonPath("$.header.type", equalTo("query"))
+            .match(repeatedJson)
+            .isExactMatch());
+  }
+
+  @Test
+  public void reportsAnInvalidExpressionOnEveryMatch() {
+    StringValuePattern pattern = WireMock.matchingJsonPath("$.things..", equalTo("1"));
+
+    for (int i = 0; i < 2; i++) {
+      MatchResult match = pattern.match("{\"things\": [1]}");
+      assertFalse(match.isExactMatch());
+      assertThat(match.getSubEvents().size(), is(1));
+    }
+  }
+
   @Test
   public void noMatchOnNullValue() {
     assertThat(WireMock.matchingJsonPath("$..*").match(null).isExactMatch(), is(false));
@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.http.ParsedBody;
 import java.util.Collections;
 import java.util.Map;
 import org.json.JSONException;
@@ -93,7 +94,8 @@ public class MatchesXPathPatternTest {
   @Test
   public void matchesNamespacedXmlWhenNamespacesSpecified() {
     String xml =
-        "<t:thing xmlns:t='http://things' xmlns:s='http://subthings'><s:subThing>The stuff</s:subThing></t:thing>";
+        "<t:thing xmlns:t='http://things' xmlns:s='http://subthings'><s:subThing>The"
+            + " stuff</s:subThing></t:thing>";
 
     StringValuePattern pattern =
         WireMock.matchingXPath(
@@ -104,10 +106,54 @@ public class MatchesXPathPatternTest {
     assertTrue(match.isExactMatch());
   }
 
+  @Test
+  public void reusesOneNamespacedPatternAcrossDocuments() {
+    StringValuePattern pattern =
+        new MatchesXPathPattern(
+            "//sub:subThing/text()",
+            Map.of("sub", "http://subthings"),
+            WireMock.equalTo("The stuff"));
+
+    assertTrue(
+        pattern
+            .match("<s:subThing xmlns:s='http://subthings'>The stuff</s:subThing>")
+            .isExactMatch());
+    assertFalse(
+        pattern
+            .match("<s:subThing xmlns:s='http://subthings'>Other stuff</s:subThing>")
+            .isExactMatch());
+    assertFalse(
+        pattern.match("<s:subThing xmlns:s='http://other'>The stuff</s:subThing>").isExactMatch());
+  }
+
+  @Test
+  public void matchesDefinitePathsInLargeDocumentsAsAFullParseWould() {
+    String items = "<Item>1</Item>".repeat(ParsedBody.STREAMING_THRESHOLD / 14);
+    String xml =
+        "<Envelope><Header><Action>urn:ingest</Action></Header><Body>"
+            + items
+            + "</Body></Envelope>";
+
+    assertTrue(WireMock.matchingXPath("/Envelope/Header/Action").match(xml).isExactMatch());
+    assertTrue(
+        WireMock.matchingXPath("/Envelope/Header/Action/text()", WireMock.equalTo("urn:ingest"))
+            .match(xml)
+            .isExactMatch());
+
+    String malformedXml = xml + "<junk";
+    assertFalse(
+        WireMock.matchingXPath("/Envelope/Header/Action").match(malformedXml).isExactMatch());
+    assertFalse(
+        WireMock.matchingXPath("/Envelope/Header/Action/text()", WireMock.equalTo("urn:ingest"))
+            .match(malformedXml)
+            .isExactMatch());
+  }
+
   @Test
   public void matchesNamespacedXmlFromLocalNames() {
     String xml =
-        "<t:thing xmlns:t='http://things' xmlns:s='http://subthings'><s:subThing>The stuff</s:subThing></t:thing>";
+        "<t:thing xmlns:t='http://things' xmlns:s='http://subthings'><s:subThing>The"
+            + " stuff</s:subThing></t:thing>";
 
     StringValuePattern pattern = WireMock.matchingXPath("/thing/subThing[.='The stuff']");
 
@@ -304,7 +350,14 @@ public class MatchesXPathPatternTest {
     checkMessage(
         matchResult,
         WARNING,
-        "Warning: failed to parse the XML document. Reason: {\n  \"errors\" : [ {\n    \"code\" : 50,\n    \"title\" : \"XML document structures must start and end within the same entity.\"\n  } ]\n}\nXML: <xml");
+        "Warning: failed to parse the XML document. Reason: {\n"
+            + "  \"errors\" : [ {\n"
+            + "    \"code\" : 50,\n"
+            + "    \"title\" : \"XML document structures must start and end within the same"
+            + " entity.\"\n"
+            + "  } ]\n"
+            + "}\n"
+            + "XML: <xml");
   }
 
   @Test
@@ -320,7 +373,8 @@ public class MatchesXPathPatternTest {
             .match("<something>{ bad json</something>");
     checkJsonError(
         matchResult,
-        "Unexpected character ('b' (code 98)): was expecting double-quote to start field name\n at [Source: (String)\"{ bad json\"; line: 1, column: 4]");
+        "Unexpected character ('b' (code 98)): was expecting double-quote to start field name\n"
+            + " at [Source: (String)\"{ bad json\"; line: 1, column: 4]");
   }
 
   @Test
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.matching;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+public class RegexLiteralsTest {
+
+  @Test
+  void returnsLiteralPrefixUpToFirstMetaCharacter() {
+    assertThat(RegexLiterals.literalPrefix("/api/users/.*"), is("/api/users/"));
+    assertThat(RegexLiterals.literalPrefix("^/api/users/[0-9]+"), is("/api/users/"));
+    assertThat(RegexLiterals.literalPrefix("/api/file\\.json"), is("/api/file.json"));
+  }
+
+  @Test
+  void excludesOptionalCharacterFromLiteralPrefix() {
+    assertThat(RegexLiterals.literalPrefix("/things/?.*"), is("/things"));
+    assertThat(RegexLiterals.literalPrefix("/things*"), is("/thing"));
+    assertThat(RegexLiterals.literalPrefix("/things+/x"), is("/things"));
+  }
+
+  @Test
+  void returnsAllRequiredLiteralRuns() {
+    assertThat(
+        RegexLiterals.requiredLiterals(".*/orders/[0-9]+/items(/[a-z]+)?\\?page=.*"),
+        contains("/orders/", "/items", "?page="));
+  }
+
+  @Test
+  void ignoresContentOfGroupsAndCharacterClasses() {
+    assertThat(RegexLiterals.requiredLiterals("(abc)+def[ghi[jk]]lmn"), contains("def", "lmn"));
+  }
+
+  @Test
+  void returnsNothingForRegexesThatCannotBeSafelyAnalysed() {
+    assertThat(RegexLiterals.requiredLiterals("/one|/two"), is(empty()));
+    assertThat(RegexLiterals.requiredLiterals("(?i)/things"), is(empty()));
+    assertThat(RegexLiterals.requiredLiterals("\\Q/things\\E"), is(empty()));
+    assertThat(RegexLiterals.literalPrefix("/one|/two"), is(""));
+  }
+
+  @Test
+  void decodesEscapesThatStandForOneCharacter() {
+    assertThat(RegexLiterals.requiredLiterals(".*v\\x31.*"), contains("v1"));
+    assertThat(RegexLiterals.requiredLiterals("a\\x{62}c"), contains("abc"));
+    assertThat(RegexLiterals.requiredLiterals("a\\u0062c"), contains("abc"));
+    assertThat(RegexLiterals.requiredLiterals("a\\0142c"), contains("abc"));
+    assertThat(RegexLiterals.requiredLiterals("a\\07c"), contains("a\u0007c"));
+    assertThat(RegexLiterals.requiredLiterals("a\\cIc"), contains("a\tc"));
+    assertThat(RegexLiterals.requiredLiterals("a\\tc"), contains("a\tc"));
+    assertThat(RegexLiterals.literalPrefix("/v\\x31/users"), is("/v1/users"));
+  }
+
+  @Test
+  void quantifiesSupplementaryCharactersAsAWhole() {
+    assertThat(RegexLiterals.requiredLiterals("a\uD83D\uDE00?b"), contains("a", "b"));
+    assertThat(RegexLiterals.requiredLiterals("a\uD83D\uDE00+b"), contains("a\uD83D\uDE00", "b"));
+    assertThat(RegexLiterals.requiredLiterals("a\\\uD83D\uDE00b"), contains("a\uD83D\uDE00b"));
+    assertThat(RegexLiterals.literalPrefix("/\uD83D\uDE00*/x"), is("/"));
+  }
+
+  @Test
+  void treatsClassEscapesAsNonLiteral() {
+    assertThat(RegexLiterals.requiredLiterals("/users/\\d+/name"), contains("/users/", "/name"));
+  }
+
+  @Test
+  void returnsNothingForEscapesItDoesNotDecode() {
+    assertThat(RegexLiterals.requiredLiterals("(?<x>a)b\\k<x>cd"), is(empty()));
+    assertThat(RegexLiterals.requiredLiterals("(a)b\\1cd"), is(empty()));
+    assertThat(RegexLiterals.requiredLiterals("ab\\p{Lu}cd"), is(empty()));
+    assertThat(RegexLiterals.requiredLiterals("ab\\uD83D\\uDE00?cd"), is(empty()));
+    assertThat(RegexLiterals.literalPrefix("ab\\p{Lu}cd"), is(""));
+  }
+}
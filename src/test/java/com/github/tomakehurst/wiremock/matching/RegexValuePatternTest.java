@@ -54,6 +54,46 @@ public class RegexValuePatternTest {
     assertThat(WireMock.matching(".*").match(null).isExactMatch(), is(false));
   }
 
+  @Test
+  public void onlyMatchesValuesContainingTheRequiredLiteralsInOrder() {
+    StringValuePattern pattern = WireMock.matching("/api/v[0-9]+/users/.*\\.json");
+
+    assertThat(pattern.match("/api/v2/users/42.json").isExactMatch(), is(true));
+    assertThat(pattern.match("/api/v2/users/42.xml").isExactMatch(), is(false));
+    assertThat(pattern.match("/users/42.json/api/v2").isExactMatch(), is(false));
+    assertThat(pattern.match("/api/v").isExactMatch(), is(false));
+    assertThat(pattern.match("").isExactMatch(), is(false));
+  }
+
+  @Test
+  public void negativeRegexMatchesValuesMissingARequiredLiteral() {
+    StringValuePattern pattern = WireMock.notMatching("abc.*xyz");
+
+    assertThat(pattern.match("nothing like it").isExactMatch(), is(true));
+    assertThat(pattern.match("xyz then abc").isExactMatch(), is(true));
+    assertThat(pattern.match("abc and xyz").isExactMatch(), is(false));
+  }
+
+  @Test
+  public void matchesRegexesWithCharacterEscapesAsJavaDoes() {
+    assertThat(WireMock.matching(".*v\\x31.*").match("v1").isExactMatch(), is(true));
+    assertThat(WireMock.matching("a\\u0062c").match("abc").isExactMatch(), is(true));
+    assertThat(WireMock.matching("a\\0142c").match("abc").isExactMatch(), is(true));
+    assertThat(WireMock.matching("a\\cIc").match("a\tc").isExactMatch(), is(true));
+    assertThat(WireMock.matching("(a)b\\1").match("aba").isExactMatch(), is(true));
+    assertThat(WireMock.matching("(?<x>a)b\\k<x>").match("aba").isExactMatch(), is(true));
+    assertThat(WireMock.notMatching("a\\u0062c").match("abc").isExactMatch(), is(false));
+  }
+
+  @Test
+  public void matchesRegexesQuantifyingSupplementaryCharactersAsJavaDoes() {
+    assertThat(new RegexPattern("a\uD83D\uDE00?b").match("ab").isExactMatch(), is(true));
+    assertThat(new RegexPattern("a\uD83D\uDE00*b").match("ab").isExactMatch(), is(true));
+    assertThat(
+        new RegexPattern("a\uD83D\uDE00+b").match("a\uD83D\uDE00\uD83D\uDE00b").isExactMatch(),
+        is(true));
+  }
+
   @Test
   public void objectsShouldBeEqualOnSameExpectedValue() {
     RegexPattern a = new RegexPattern("test");
@@ -40,8 +40,10 @@ import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
 import static com.github.tomakehurst.wiremock.matching.RequestPatternBuilder.newRequestPattern;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -83,6 +85,23 @@ public class RequestPatternTest {
     assertFalse(matchResult.isExactMatch());
   }
 
+  @Test
+  public void doesNotEvaluateBodyPatternsUntilDistanceIsNeededWhenUrlDoesNotMatch() {
+    RequestPattern requestPattern =
+        newRequestPattern(POST, urlPathEqualTo("/json"))
+            .withRequestBody(equalToJson("{ \"thing\": \"value\" }"))
+            .build();
+
+    MatchResult matchResult =
+        requestPattern.match(mockRequest().method(POST).url("/other").body("{ \"thing\": "));
+
+    assertFalse(matchResult.isExactMatch());
+    assertThat(matchResult.getSubEvents(), is(empty()));
+
+    assertThat(matchResult.getDistance(), greaterThan(0.0));
+    assertThat(matchResult.getSubEvents(), hasSize(1));
+  }
+
   @Test
   public void matchesExactlyWith0DistanceWhenAllRequiredHeadersMatch() {
     RequestPattern requestPattern =
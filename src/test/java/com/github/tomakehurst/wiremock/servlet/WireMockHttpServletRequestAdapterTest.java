@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.servlet;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.tomakehurst.wiremock.http.Request;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class WireMockHttpServletRequestAdapterTest {
+
+  private HttpServletRequest request;
+  private WireMockHttpServletRequestAdapter adapter;
+
+  @BeforeEach
+  public void init() {
+    request = mock(HttpServletRequest.class);
+    adapter = new WireMockHttpServletRequestAdapter(request, null, null, false);
+  }
+
+  @Test
+  public void readsHeadersOnceAndLooksThemUpCaseInsensitively() {
+    Map<String, List<String>> headers = new LinkedHashMap<>();
+    headers.put("Accept", List.of("text/plain"));
+    headers.put("X-Repeated", List.of("one", "two"));
+    headers.put("x-repeated", List.of("one", "two"));
+    givenHeaders(headers);
+
+    assertThat(adapter.getHeader("accept"), is("text/plain"));
+    assertThat(adapter.header("X-REPEATED").values(), contains("one", "two"));
+    assertThat(adapter.header("x-repeated").key(), is("x-repeated"));
+    assertThat(adapter.containsHeader("ACCEPT"), is(true));
+    assertThat(adapter.containsHeader("Missing"), is(false));
+    assertThat(adapter.header("Missing").isPresent(), is(false));
+    assertThat(adapter.getHeader("Missing"), is(nullValue()));
+    assertThat(adapter.getHeaders().size(), is(2));
+    assertThat(adapter.getHeaders(), sameInstance(adapter.getHeaders()));
+
+    verify(request, times(1)).getHeaderNames();
+    verify(request, times(1)).getHeaders("X-Repeated");
+  }
+
+  @Test
+  public void readsCookiesOnceGroupingValuesByName() {
+    when(request.getCookies())
+        .thenReturn(
+            new Cookie[] {new Cookie("a", "1"), new Cookie("b", "2"), new Cookie("a", "3")});
+
+    Map<String, com.github.tomakehurst.wiremock.http.Cookie> cookies = adapter.getCookies();
+
+    assertThat(cookies.keySet(), contains("a", "b"));
+    assertThat(cookies.get("a").getValues(), contains("1", "3"));
+    assertThat(cookies.get("b").getValues(), contains("2"));
+    assertThat(adapter.getCookies(), sameInstance(cookies));
+    verify(request, times(1)).getCookies();
+  }
+
+  @Test
+  public void readsFormParametersOnlyWhenAskedAndOnlyOnce() throws Exception {
+    String contentType = "application/x-www-form-urlencoded; charset=UTF-8";
+    givenHeaders(Map.of("Content-Type", List.of(contentType)));
+    givenBody(contentType, "a=1&b=two+words&a=3");
+    verify(request, times(0)).getInputStream();
+
+    assertThat(adapter.formParameter("a").values(), contains("1", "3"));
+    assertThat(adapter.formParameter("b").firstValue(), is("two words"));
+    assertThat(adapter.formParameter("c").isPresent(), is(false));
+    assertThat(adapter.formParameters(), sameInstance(adapter.formParameters()));
+    verify(request, times(1)).getInputStream();
+  }
+
+  @Test
+  public void readsPartsOnlyWhenAskedAndOnlyOnce() throws Exception {
+    String contentType = "multipart/form-data; boundary=BOUNDARY";
+    givenHeaders(Map.of("Content-Type", List.of(contentType)));
+    givenBody(
+        contentType,
+        "--BOUNDARY\r\n"
+            + "Content-Disposition: form-data; name=\"first\"\r\n\r\n"
+            + "one\r\n"
+            + "--BOUNDARY\r\n"
+            + "Content-Disposition: form-data; name=\"second\"\r\n\r\n"
+            + "two\r\n"
+            + "--BOUNDARY--\r\n");
+    verify(request, times(0)).getInputStream();
+
+    assertThat(adapter.getPart("second").getBody().asString(), is("two"));
+    assertThat(adapter.getPart("third"), is(nullValue()));
+    assertThat(
+        adapter.getParts().stream().map(Request.Part::getName).collect(toList()),
+        contains("first", "second"));
+    assertThat(adapter.getParts(), sameInstance(adapter.getParts()));
+    verify(request, times(1)).getInputStream();
+  }
+
+  private void givenHeaders(Map<String, List<String>> headers) {
+    Map<String, List<String>> byName = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    byName.putAll(headers);
+    when(request.getHeaderNames())
+        .thenAnswer(invocation -> Collections.enumeration(headers.keySet()));
+    when(request.getHeaders(anyString()))
+        .thenAnswer(
+            invocation ->
+                Collections.enumeration(byName.getOrDefault(invocation.getArgument(0), List.of())));
+  }
+
+  private void givenBody(String contentType, String body) throws Exception {
+    when(request.getContentType()).thenReturn(contentType);
+    when(request.getCharacterEncoding()).thenReturn("UTF-8");
+    when(request.getInputStream())
+        .thenReturn(new ByteArrayServletInputStream(body.getBytes(UTF_8)));
+  }
+
+  private static class ByteArrayServletInputStream extends ServletInputStream {
+
+    private final ByteArrayInputStream bytes;
+
+    ByteArrayServletInputStream(byte[] bytes) {
+      this.bytes = new ByteArrayInputStream(bytes);
+    }
+
+    @Override
+    public int read() {
+      return bytes.read();
+    }
+
+    @Override
+    public boolean isFinished() {
+      return bytes.available() == 0;
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setReadListener(ReadListener readListener) {}
+  }
+}
@@ -41,6 +41,8 @@ import com.github.tomakehurst.wiremock.http.trafficlistener.ConsoleNotifyingWire
 import com.github.tomakehurst.wiremock.matching.MatchResult;
 import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
 import com.github.tomakehurst.wiremock.security.Authenticator;
+import com.github.tomakehurst.wiremock.store.BlobStore;
+import com.github.tomakehurst.wiremock.store.CachingBlobStore;
 import java.util.Collections;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
@@ -794,6 +796,21 @@ public class CommandLineOptionsTest {
     assertTrue(options.getStores().getSettingsStore().get().getProxyPassThrough());
   }
 
+  @Test
+  void sharesOneCachingFilesStoreWhenBodyFileCacheSizeIsGiven() {
+    CommandLineOptions options = new CommandLineOptions("--body-file-cache-size", "1048576");
+
+    BlobStore filesBlobStore = options.getStores().getFilesBlobStore();
+    assertThat(filesBlobStore, instanceOf(CachingBlobStore.class));
+    assertThat(options.getStores().getFilesBlobStore(), sameInstance(filesBlobStore));
+  }
+
+  @Test
+  void readsBodyFilesDirectlyByDefault() {
+    CommandLineOptions options = new CommandLineOptions();
+    assertThat(options.getStores().getFilesBlobStore(), not(instanceOf(CachingBlobStore.class)));
+  }
+
   public static class ResponseDefinitionTransformerExt1 extends ResponseDefinitionTransformer {
 
     @Override
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
+import com.github.tomakehurst.wiremock.common.StreamSources.FileInputStreamSource;
+import com.github.tomakehurst.wiremock.store.files.FileSourceBlobStore;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CachingBlobStoreTest {
+
+  @TempDir Path root;
+
+  @Test
+  void readsEachFileOnceWhileItIsUnchanged() throws Exception {
+    write("body.json", "{}");
+    CachingBlobStore store = new CachingBlobStore(filesIn(root), 1024);
+
+    assertThat(contentsOf(store, "body.json"), is("{}"));
+    assertThat(contentsOf(store, "body.json"), is("{}"));
+    assertThat(new String(store.get("body.json").get(), StandardCharsets.UTF_8), is("{}"));
+
+    assertThat(store.getStats().missCount(), is(1L));
+    assertThat(store.getStats().hitCount(), is(2L));
+  }
+
+  @Test
+  void readsAFileAgainWhenItChangesOnDisk() throws Exception {
+    Path file = write("body.txt", "before");
+    CachingBlobStore store = new CachingBlobStore(filesIn(root), 1024);
+    assertThat(contentsOf(store, "body.txt"), is("before"));
+
+    Files.writeString(file, "after!");
+    Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(10)));
+
+    assertThat(contentsOf(store, "body.txt"), is("after!"));
+    assertThat(store.getStats().missCount(), is(2L));
+  }
+
+  @Test
+  void forgetsABlobWrittenThroughIt() throws Exception {
+    write("body.txt", "before");
+    CachingBlobStore store = new CachingBlobStore(filesIn(root), 1024);
+    assertThat(contentsOf(store, "body.txt"), is("before"));
+
+    store.put("body.txt", "after".getBytes(StandardCharsets.UTF_8));
+
+    assertThat(contentsOf(store, "body.txt"), is("after"));
+  }
+
+  @Test
+  void keepsWithinItsBudgetAndServesLargerFilesFromDisk() throws Exception {
+    write("one.txt", "0123456789");
+    write("two.txt", "abcdefghij");
+    write("large.txt", "this file is larger than the whole cache");
+    CachingBlobStore store = new CachingBlobStore(filesIn(root), 15);
+
+    assertThat(contentsOf(store, "one.txt"), is("0123456789"));
+    assertThat(contentsOf(store, "two.txt"), is("abcdefghij"));
+    assertThat(store.getStats().evictionCount(), is(1L));
+
+    assertThat(store.getStreamSource("large.txt"), instanceOf(FileInputStreamSource.class));
+    assertArrayEquals(Files.readAllBytes(root.resolve("large.txt")), store.get("large.txt").get());
+    assertThat(store.getStats().evictionCount(), is(1L));
+  }
+
+  @Test
+  void keepsABlobOfMostOfTheBudget() throws Exception {
+    write("large.txt", "x".repeat(600));
+    CachingBlobStore store = new CachingBlobStore(filesIn(root), 1000);
+
+    for (int i = 0; i < 5; i++) {
+      assertThat(contentsOf(store, "large.txt").length(), is(600));
+    }
+
+    assertThat(store.getStats().missCount(), is(1L));
+    assertThat(store.getStats().hitCount(), is(4L));
+    assertThat(store.getStats().evictionCount(), is(0L));
+  }
+
+  private static BlobStore filesIn(Path root) {
+    return new FileSourceBlobStore(new SingleRootFileSource(root.toFile()));
+  }
+
+  private Path write(String name, String contents) throws Exception {
+    return Files.writeString(root.resolve(name), contents);
+  }
+
+  private static String contentsOf(BlobStore store, String key) throws Exception {
+    return new String(
+        store.getStreamSource(key).getStream().readAllBytes(), StandardCharsets.UTF_8);
+  }
+}
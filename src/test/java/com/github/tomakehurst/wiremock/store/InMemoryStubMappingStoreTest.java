@@ -0,0 +1,280 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathTemplate;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.ANY;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.POST;
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
+import static com.github.tomakehurst.wiremock.matching.RequestPatternBuilder.newRequestPattern;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import com.github.tomakehurst.wiremock.stubbing.InMemoryScenarios;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import com.github.tomakehurst.wiremock.stubbing.Scenarios;
+import com.github.tomakehurst.wiremock.stubbing.StubImportBatch;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class InMemoryStubMappingStoreTest {
+
+  private InMemoryStubMappingStore store;
+
+  @BeforeEach
+  public void init() {
+    store = new InMemoryStubMappingStore();
+  }
+
+  @Test
+  public void returnsIndexedAndUnindexedMatchesInPriorityThenReverseInsertionOrder() {
+    StubMapping exactUrl = aMapping(GET, urlEqualTo("/things?a=1"), 3);
+    StubMapping exactPath = aMapping(GET, urlPathEqualTo("/things"), 3);
+    StubMapping anyMethod = aMapping(ANY, urlPathEqualTo("/things"), 1);
+    StubMapping regex = aMapping(ANY, urlMatching("/thing.*"), 3);
+    StubMapping anything = aMapping(GET, anyUrl(), 9);
+    StubMapping wrongMethod = aMapping(POST, urlEqualTo("/things?a=1"), 1);
+    StubMapping wrongUrl = aMapping(GET, urlEqualTo("/other"), 1);
+
+    Stream.of(exactUrl, exactPath, anyMethod, regex, anything, wrongMethod, wrongUrl)
+        .forEach(store::add);
+
+    Request request = mockRequest().method(GET).url("/things?a=1");
+
+    assertThat(findMatching(request), contains(anyMethod, regex, exactPath, exactUrl, anything));
+    assertThat(findMatching(request), is(findMatchingByFullScan(request)));
+  }
+
+  @Test
+  public void returnsPathTemplateAndRegexPrefixMatchesInPriorityOrder() {
+    StubMapping template = aMapping(GET, urlPathTemplate("/things/{id}/parts"), 3);
+    StubMapping wildcard = aMapping(GET, urlPathTemplate("/things/**"), 3);
+    StubMapping regexPrefix = aMapping(GET, urlPathMatching("/things/[0-9]+/parts"), 2);
+    StubMapping regexOptionalSlash = aMapping(GET, urlMatching("/things/?.*"), 4);
+    StubMapping otherTemplate = aMapping(GET, urlPathTemplate("/things/{id}"), 1);
+    StubMapping otherPrefix = aMapping(GET, urlPathMatching("/other/.*"), 1);
+
+    Stream.of(template, wildcard, regexPrefix, regexOptionalSlash, otherTemplate, otherPrefix)
+        .forEach(store::add);
+
+    Request request = mockRequest().method(GET).url("/things/123/parts?page=2");
+
+    assertThat(
+        findMatching(request), contains(regexPrefix, wildcard, template, regexOptionalSlash));
+    assertThat(findMatching(request), is(findMatchingByFullScan(request)));
+
+    store.remove(template);
+    store.remove(regexPrefix);
+
+    assertThat(findMatching(request), contains(wildcard, regexOptionalSlash));
+  }
+
+  @Test
+  public void returnsFullUrlRegexMatchesWhoseLiteralPrefixRunsIntoTheQuery() {
+    StubMapping login = aMapping(GET, urlMatching("/login\\?next=/home.*"), 1);
+    StubMapping loginPath = aMapping(GET, urlPathMatching("/login/.*"), 1);
+
+    Stream.of(login, loginPath).forEach(store::add);
+
+    Request request = mockRequest().method(GET).url("/login?next=/home/x");
+
+    assertThat(findMatching(request), contains(login));
+    assertThat(findMatching(request), is(findMatchingByFullScan(request)));
+  }
+
+  @Test
+  public void returnsRegexMatchesFoundViaRequiredLiterals() {
+    StubMapping orders = aMapping(GET, urlMatching(".*/orders/[0-9]+\\?page=.*"), 1);
+    StubMapping ordersByPath = aMapping(GET, urlPathMatching("[a-z/]+/orders/[0-9]+"), 2);
+    StubMapping invoices = aMapping(GET, urlMatching(".*/invoices/[0-9]+"), 1);
+    StubMapping alternation = aMapping(GET, urlMatching(".*/(orders|invoices)/.*"), 3);
+
+    Stream.of(orders, ordersByPath, invoices, alternation).forEach(store::add);
+
+    Request request = mockRequest().method(GET).url("/api/orders/12?page=1");
+
+    assertThat(findMatching(request), contains(orders, ordersByPath, alternation));
+    assertThat(findMatching(request), is(findMatchingByFullScan(request)));
+  }
+
+  @Test
+  public void returnsRegexMatchesWhoseLiteralsAreWrittenAsEscapes() {
+    StubMapping hexEscape = aMapping(GET, urlMatching(".*/v\\x31/users"), 1);
+    StubMapping unicodeEscape = aMapping(GET, urlPathMatching("/api/v\\u0031/.*"), 1);
+    StubMapping backreference = aMapping(GET, urlMatching("/(api)/v1/\\w+"), 1);
+
+    Stream.of(hexEscape, unicodeEscape, backreference).forEach(store::add);
+
+    Request request = mockRequest().method(GET).url("/api/v1/users");
+
+    assertThat(findMatching(request), contains(backreference, unicodeEscape, hexEscape));
+    assertThat(findMatching(request), is(findMatchingByFullScan(request)));
+  }
+
+  @Test
+  public void doesNotReturnRemovedStubs() {
+    StubMapping first = aMapping(GET, urlEqualTo("/things"), 1);
+    StubMapping second = aMapping(GET, urlMatching("/things"), 1);
+    store.add(first);
+    store.add(second);
+
+    store.remove(first);
+    store.remove(second);
+
+    assertThat(findMatching(mockRequest().method(GET).url("/things")), is(empty()));
+  }
+
+  @Test
+  public void findsReplacedStubUnderItsNewUrl() {
+    StubMapping existing = aMapping(GET, urlEqualTo("/old"), 1);
+    store.add(existing);
+
+    StubMapping updated = aMapping(GET, urlEqualTo("/new"), 1);
+    updated.setInsertionIndex(existing.getInsertionIndex());
+    store.replace(existing, updated);
+
+    assertThat(findMatching(mockRequest().method(GET).url("/old")), is(empty()));
+    assertThat(findMatching(mockRequest().method(GET).url("/new")), contains(updated));
+  }
+
+  @Test
+  public void looksUpTheFirstStubInPriorityOrderWhenStubsShareAnId() {
+    StubMapping first = aMapping(GET, urlEqualTo("/first"), 1);
+    StubMapping second = aMapping(GET, urlEqualTo("/second"), 5);
+    second.setId(first.getId());
+    store.add(first);
+    store.add(second);
+
+    assertThat(store.get(first.getId()), is(Optional.of(first)));
+
+    StubMapping updated = aMapping(GET, urlEqualTo("/updated"), 9);
+    updated.setId(first.getId());
+    updated.setInsertionIndex(first.getInsertionIndex());
+    store.replace(first, updated);
+
+    assertThat(store.get(first.getId()), is(Optional.of(second)));
+  }
+
+  @Test
+  public void doesNotReturnStubsAfterClear() {
+    store.add(aMapping(GET, urlEqualTo("/things"), 1));
+    store.add(aMapping(GET, anyUrl(), 1));
+
+    store.clear();
+
+    assertThat(findMatching(mockRequest().method(GET).url("/things")), is(empty()));
+  }
+
+  @Test
+  public void appliesAllChangesInAnImportTogether() {
+    StubMapping kept = aMapping(GET, urlEqualTo("/things"), 1);
+    StubMapping existing = aMapping(GET, urlEqualTo("/things"), 1);
+    StubMapping removed = aMapping(GET, urlEqualTo("/things"), 1);
+    Stream.of(kept, existing, removed).forEach(store::add);
+
+    StubMapping updated = aMapping(GET, urlPathEqualTo("/things"), 1);
+    updated.setId(existing.getId());
+    updated.setInsertionIndex(existing.getInsertionIndex());
+    StubMapping added = aMapping(GET, urlMatching("/thing.*"), 1);
+
+    store.importMappings(
+        new StubImportBatch(
+            List.of(added),
+            List.of(new StubImportBatch.Edit(existing, updated)),
+            List.of(removed)));
+
+    Request request = mockRequest().method(GET).url("/things");
+    assertThat(findMatching(request), contains(added, updated, kept));
+    assertThat(store.get(existing.getId()), is(Optional.of(updated)));
+    assertThat(store.get(removed.getId()), is(Optional.empty()));
+  }
+
+  @Test
+  public void onlyReturnsScenarioStubsRequiringTheCurrentScenarioState() {
+    Scenarios scenarios = new InMemoryScenarios(new InMemoryScenariosStore());
+    StubMapping started = aScenarioMapping("/things", Scenario.STARTED, "Second");
+    StubMapping second = aScenarioMapping("/things", "Second", null);
+    StubMapping independent = aMapping(GET, urlEqualTo("/things"), 5);
+    Stream.of(started, second, independent)
+        .forEach(
+            stubMapping -> {
+              store.add(stubMapping);
+              scenarios.onStubMappingAdded(stubMapping);
+            });
+
+    Request request = mockRequest().method(GET).url("/things");
+    assertThat(findMatching(request, scenarios), contains(started, independent));
+
+    scenarios.onStubServed(started);
+    assertThat(findMatching(request, scenarios), contains(second, independent));
+
+    scenarios.reset();
+    assertThat(findMatching(request, scenarios), contains(started, independent));
+    assertThat(findMatching(request), contains(second, started, independent));
+  }
+
+  private List<StubMapping> findMatching(Request request, Scenarios scenarios) {
+    return store
+        .findAllMatchingRequest(request, Collections.emptyMap(), subEvent -> {}, scenarios)
+        .collect(toList());
+  }
+
+  private List<StubMapping> findMatching(Request request) {
+    return store
+        .findAllMatchingRequest(request, Collections.emptyMap(), subEvent -> {})
+        .collect(toList());
+  }
+
+  private List<StubMapping> findMatchingByFullScan(Request request) {
+    return store
+        .getAll()
+        .filter(stubMapping -> stubMapping.getRequest().match(request).isExactMatch())
+        .collect(toList());
+  }
+
+  private static StubMapping aScenarioMapping(String url, String requiredState, String newState) {
+    StubMapping mapping = aMapping(GET, urlEqualTo(url), 1);
+    mapping.setScenarioName("Things");
+    mapping.setRequiredScenarioState(requiredState);
+    mapping.setNewScenarioState(newState);
+    return mapping;
+  }
+
+  private static StubMapping aMapping(RequestMethod method, UrlPattern url, Integer priority) {
+    StubMapping mapping =
+        new StubMapping(newRequestPattern(method, url).build(), new ResponseDefinition());
+    mapping.setPriority(priority);
+    return mapping;
+  }
+}
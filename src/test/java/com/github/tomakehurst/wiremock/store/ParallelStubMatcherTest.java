@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
+import static com.github.tomakehurst.wiremock.matching.RequestPatternBuilder.newRequestPattern;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.matching.MatchResult;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ParallelStubMatcherTest {
+
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+  private final Request request = mockRequest().method(GET).url("/things");
+
+  @AfterEach
+  public void shutdown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  public void returnsTheSameMatchesAndSubEventsAsASequentialScan() {
+    List<StubMapping> candidates = candidates(100, Set.of(37, 38, 90), Set.of());
+
+    List<String> parallelEvents = new ArrayList<>();
+    List<StubMapping> parallel =
+        new ParallelStubMatcher(pool, 4)
+            .findAllMatching(
+                candidates,
+                request,
+                Collections.emptyMap(),
+                subEvent -> parallelEvents.add(message(subEvent)))
+            .collect(toList());
+
+    List<String> sequentialEvents = new ArrayList<>();
+    List<StubMapping> sequential =
+        new ParallelStubMatcher(pool, Integer.MAX_VALUE)
+            .findAllMatching(
+                candidates,
+                request,
+                Collections.emptyMap(),
+                subEvent -> sequentialEvents.add(message(subEvent)))
+            .collect(toList());
+
+    assertThat(parallel, contains(candidates.get(37), candidates.get(38), candidates.get(90)));
+    assertThat(parallel, is(sequential));
+    assertThat(parallelEvents, is(sequentialEvents));
+  }
+
+  @Test
+  public void onlyReportsSubEventsUpToTheFirstMatch() {
+    List<StubMapping> candidates = candidates(100, Set.of(37, 90), Set.of());
+
+    List<String> events = new ArrayList<>();
+    Optional<StubMapping> first =
+        new ParallelStubMatcher(pool, 4)
+            .findAllMatching(
+                candidates,
+                request,
+                Collections.emptyMap(),
+                subEvent -> events.add(message(subEvent)))
+            .findFirst();
+
+    assertThat(first, is(Optional.of(candidates.get(37))));
+    assertThat(
+        events, is(IntStream.rangeClosed(0, 37).mapToObj(i -> "stub-" + i).collect(toList())));
+  }
+
+  @Test
+  public void onlyThrowsFailuresASequentialScanWouldHaveReached() {
+    List<StubMapping> failingAfterMatch = candidates(100, Set.of(10), Set.of(60));
+    Optional<StubMapping> first =
+        new ParallelStubMatcher(pool, 4)
+            .findAllMatching(failingAfterMatch, request, Collections.emptyMap(), subEvent -> {})
+            .findFirst();
+    assertThat(first, is(Optional.of(failingAfterMatch.get(10))));
+
+    List<StubMapping> failingBeforeMatch = candidates(100, Set.of(60), Set.of(10));
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            new ParallelStubMatcher(pool, 4)
+                .findAllMatching(
+                    failingBeforeMatch, request, Collections.emptyMap(), subEvent -> {})
+                .findFirst());
+  }
+
+  private static List<StubMapping> candidates(
+      int count, Set<Integer> matching, Set<Integer> failing) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> aMapping(i, matching.contains(i), failing.contains(i)))
+        .collect(toList());
+  }
+
+  private static StubMapping aMapping(int number, boolean matches, boolean fails) {
+    return new StubMapping(
+        newRequestPattern(GET, anyUrl())
+            .andMatching(
+                request -> {
+                  if (fails) {
+                    throw new IllegalStateException("stub-" + number + " failed");
+                  }
+                  return MatchResult.of(matches, SubEvent.info("stub-" + number));
+                })
+            .build(),
+        new ResponseDefinition());
+  }
+
+  private static String message(SubEvent subEvent) {
+    return String.valueOf(subEvent.getData().get("message"));
+  }
+}
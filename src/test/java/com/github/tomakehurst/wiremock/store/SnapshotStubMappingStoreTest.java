@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.store;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
+import static com.github.tomakehurst.wiremock.matching.RequestPatternBuilder.newRequestPattern;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
+import com.github.tomakehurst.wiremock.stubbing.InMemoryScenarios;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import com.github.tomakehurst.wiremock.stubbing.Scenarios;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class SnapshotStubMappingStoreTest {
+
+  private SnapshotStubMappingStore store;
+
+  @BeforeEach
+  public void init() {
+    store = new SnapshotStubMappingStore();
+  }
+
+  @Test
+  public void returnsStubsInPriorityThenReverseInsertionOrder() {
+    StubMapping first = aMapping("/first", 5);
+    StubMapping second = aMapping("/second", 1);
+    StubMapping third = aMapping("/third", 5);
+    StubMapping fourth = aMapping("/fourth", 1);
+
+    Stream.of(first, second, third, fourth).forEach(store::add);
+
+    assertThat(all(), contains(fourth, second, third, first));
+  }
+
+  @Test
+  public void looksUpStubsById() {
+    StubMapping mapping = aMapping("/things", 1);
+    store.add(mapping);
+
+    assertThat(store.get(mapping.getId()), is(Optional.of(mapping)));
+    assertThat(store.get(UUID.randomUUID()), is(Optional.empty()));
+    assertThat(store.get(null), is(Optional.empty()));
+  }
+
+  @Test
+  public void removesStubsById() {
+    StubMapping kept = aMapping("/kept", 1);
+    StubMapping removed = aMapping("/removed", 1);
+    store.add(kept);
+    store.add(removed);
+
+    StubMapping copyWithSameId = aMapping("/something-else", 1);
+    copyWithSameId.setId(removed.getId());
+    store.remove(copyWithSameId);
+
+    assertThat(all(), contains(kept));
+    assertThat(store.get(removed.getId()), is(Optional.empty()));
+  }
+
+  @Test
+  public void removesStubsByRequestPatternWhenIdIsNotKnown() {
+    StubMapping kept = aMapping("/kept", 1);
+    StubMapping removed = aMapping("/removed", 1);
+    store.add(kept);
+    store.add(removed);
+
+    store.remove(aMapping("/removed", 1));
+
+    assertThat(all(), contains(kept));
+    assertThat(store.get(removed.getId()), is(Optional.empty()));
+  }
+
+  @Test
+  public void removesEveryStubSharingTheIdOrRequestPattern() {
+    StubMapping kept = aMapping("/kept", 3);
+    StubMapping first = aMapping("/same-id", 1);
+    StubMapping second = aMapping("/same-id-again", 2);
+    second.setId(first.getId());
+    StubMapping samePattern = aMapping("/same-pattern", 1);
+    StubMapping samePatternAgain = aMapping("/same-pattern", 4);
+    Stream.of(first, kept, samePattern, second, samePatternAgain).forEach(store::add);
+
+    assertThat(store.get(first.getId()), is(Optional.of(first)));
+
+    store.remove(second);
+    assertThat(all(), contains(samePattern, kept, samePatternAgain));
+    assertThat(store.get(first.getId()), is(Optional.empty()));
+
+    store.remove(aMapping("/same-pattern", 1));
+    assertThat(all(), contains(kept));
+    assertThat(store.get(samePattern.getId()), is(Optional.empty()));
+    assertThat(store.get(kept.getId()), is(Optional.of(kept)));
+  }
+
+  @Test
+  public void replacesStubsKeepingThemInOrder() {
+    StubMapping low = aMapping("/low", 9);
+    StubMapping existing = aMapping("/old", 5);
+    StubMapping high = aMapping("/high", 1);
+    Stream.of(low, existing, high).forEach(store::add);
+
+    StubMapping updated = aMapping("/new", 2);
+    updated.setId(existing.getId());
+    updated.setInsertionIndex(existing.getInsertionIndex());
+    store.replace(existing, updated);
+
+    assertThat(all(), contains(high, updated, low));
+    assertThat(store.get(existing.getId()), is(Optional.of(updated)));
+  }
+
+  @Test
+  public void removesAllStubsWhenCleared() {
+    StubMapping mapping = aMapping("/things", 1);
+    store.add(mapping);
+
+    store.clear();
+
+    assertThat(all(), is(empty()));
+    assertThat(store.get(mapping.getId()), is(Optional.empty()));
+  }
+
+  @Test
+  public void findsStubsForTheScenarioStateThroughTheStoresOwnMatching() {
+    List<Request> requestsMatched = new ArrayList<>();
+    StubMappingStore matchingStore =
+        new SnapshotStubMappingStore() {
+          @Override
+          public Stream<StubMapping> findAllMatchingRequest(
+              Request request,
+              Map<String, RequestMatcherExtension> customMatchers,
+              Consumer<SubEvent> subEventConsumer) {
+            requestsMatched.add(request);
+            return super.findAllMatchingRequest(request, customMatchers, subEventConsumer);
+          }
+        };
+    Scenarios scenarios = new InMemoryScenarios(new InMemoryScenariosStore());
+    StubMapping started = aScenarioMapping(Scenario.STARTED);
+    StubMapping second = aScenarioMapping("Second");
+    StubMapping independent = aMapping("/things", 5);
+    Stream.of(started, second, independent)
+        .forEach(
+            stubMapping -> {
+              matchingStore.add(stubMapping);
+              scenarios.onStubMappingAdded(stubMapping);
+            });
+
+    Request request = mockRequest().method(GET).url("/things");
+    List<StubMapping> matches =
+        matchingStore
+            .findAllMatchingRequest(request, Collections.emptyMap(), subEvent -> {}, scenarios)
+            .collect(toList());
+
+    assertThat(matches, contains(started, independent));
+    assertThat(requestsMatched, contains(request));
+  }
+
+  private List<StubMapping> all() {
+    return store.getAll().collect(toList());
+  }
+
+  private static StubMapping aScenarioMapping(String requiredState) {
+    StubMapping mapping = aMapping("/things", 1);
+    mapping.setScenarioName("Things");
+    mapping.setRequiredScenarioState(requiredState);
+    return mapping;
+  }
+
+  private static StubMapping aMapping(String url, Integer priority) {
+    StubMapping mapping =
+        new StubMapping(newRequestPattern(GET, urlEqualTo(url)).build(), new ResponseDefinition());
+    mapping.setPriority(priority);
+    return mapping;
+  }
+}
@@ -15,12 +15,30 @@
  */
 package com.github.tomakehurst.wiremock.store.files;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.github.tomakehurst.wiremock.admin.NotFoundException;
+import com.github.tomakehurst.wiremock.common.InputStreamSource;
+import com.github.tomakehurst.wiremock.common.StreamSources.FileInputStreamSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Optional;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class FileSourceBlobStoreTest {
   private static final String DIRECTORY_PATH =
@@ -47,4 +65,59 @@ class FileSourceBlobStoreTest {
           assertEquals(Optional.empty(), result);
         });
   }
+
+  @Test
+  public void servesFilesOnTheFileSystemWithTheirSizeAndThroughChannels(@TempDir Path root)
+      throws Exception {
+    byte[] contents = new byte[200_000];
+    new Random(1).nextBytes(contents);
+    Files.write(root.resolve("large.bin"), contents);
+
+    InputStreamSource source =
+        new FileSourceBlobStore(root.toString()).getStreamSource("large.bin");
+
+    assertThat(source, instanceOf(FileInputStreamSource.class));
+    FileInputStreamSource fileSource = (FileInputStreamSource) source;
+    assertThat(fileSource.length(), is(200_000L));
+
+    ByteArrayOutputStream viaChannel = new ByteArrayOutputStream();
+    fileSource.writeTo(new ChannelOutputStream(viaChannel));
+    assertArrayEquals(contents, viaChannel.toByteArray());
+
+    ByteArrayOutputStream viaStream = new ByteArrayOutputStream();
+    fileSource.writeTo(viaStream);
+    assertArrayEquals(contents, viaStream.toByteArray());
+  }
+
+  @Test
+  public void reportsAMissingFileWhenItIsRead(@TempDir Path root) {
+    FileInputStreamSource source =
+        (FileInputStreamSource) new FileSourceBlobStore(root.toString()).getStreamSource("missing");
+
+    assertThat(source.length(), is(-1L));
+    assertThrows(NotFoundException.class, source::getStream);
+  }
+
+  private static class ChannelOutputStream extends OutputStream implements WritableByteChannel {
+    private final WritableByteChannel channel;
+
+    ChannelOutputStream(OutputStream out) {
+      this.channel = Channels.newChannel(out);
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+      return channel.write(src);
+    }
+
+    @Override
+    public void write(int b) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+  }
 }
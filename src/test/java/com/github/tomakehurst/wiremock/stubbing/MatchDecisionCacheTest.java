@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.POST;
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
+import static com.github.tomakehurst.wiremock.matching.RequestPatternBuilder.newRequestPattern;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.store.InMemoryStubMappingStore;
+import com.github.tomakehurst.wiremock.store.files.FileSourceBlobStore;
+import java.util.Collections;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class MatchDecisionCacheTest {
+
+  private StoreBackedStubMappings mappings;
+
+  @BeforeEach
+  public void init() {
+    mappings =
+        new StoreBackedStubMappings(
+            new InMemoryStubMappingStore(),
+            new InMemoryScenarios(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            Collections.emptyMap(),
+            new FileSourceBlobStore(new SingleRootFileSource(".")),
+            Collections.emptyList(),
+            100);
+  }
+
+  @Test
+  public void remembersMatchesAndMissesForRepeatedRequests() {
+    StubMapping stub =
+        aMapping(
+            newRequestPattern(GET, urlEqualTo("/things")).withHeader("X-Id", equalTo("1")).build());
+    mappings.addMapping(stub);
+
+    Request matching = mockRequest().method(GET).url("/things").header("X-Id", "1");
+    Request notMatching = mockRequest().method(GET).url("/things").header("X-Id", "2");
+
+    assertThat(servedStub(matching), is(stub));
+    assertThat(servedStub(matching), is(stub));
+    assertThat(servedStub(notMatching), is(StubMapping.NOT_CONFIGURED));
+    assertThat(servedStub(notMatching), is(StubMapping.NOT_CONFIGURED));
+
+    assertThat(cache().getHitCount(), is(2L));
+    assertThat(cache().getMissCount(), is(2L));
+  }
+
+  @Test
+  public void forgetsDecisionsWhenTheStubsChange() {
+    StubMapping original = aMapping(newRequestPattern(GET, urlEqualTo("/things")).build());
+    mappings.addMapping(original);
+    Request request = mockRequest().method(GET).url("/things");
+    assertThat(servedStub(request), is(original));
+
+    StubMapping added = aMapping(newRequestPattern(GET, urlPathEqualTo("/things")).build());
+    mappings.addMapping(added);
+    assertThat(servedStub(request), is(added));
+
+    mappings.removeMapping(added);
+    assertThat(servedStub(request), is(original));
+
+    assertThat(cache().getHitCount(), is(0L));
+    assertThat(cache().getMissCount(), is(3L));
+  }
+
+  @Test
+  public void standsAsideWhileAnyStubHasABodyPattern() {
+    mappings.addMapping(aMapping(newRequestPattern(GET, urlEqualTo("/things")).build()));
+    mappings.addMapping(
+        aMapping(
+            newRequestPattern(POST, urlEqualTo("/things")).withRequestBody(equalTo("x")).build()));
+    Request request = mockRequest().method(GET).url("/things");
+
+    servedStub(request);
+    servedStub(request);
+
+    assertThat(cache().getHitCount(), is(0L));
+    assertThat(cache().getMissCount(), is(0L));
+  }
+
+  private StubMapping servedStub(Request request) {
+    return mappings.serveFor(ServeEvent.of(request)).getStubMapping();
+  }
+
+  private MatchDecisionCache cache() {
+    return mappings.getMatchDecisionCache();
+  }
+
+  private static StubMapping aMapping(RequestPattern requestPattern) {
+    return new StubMapping(requestPattern, new ResponseDefinition(200, ""));
+  }
+}
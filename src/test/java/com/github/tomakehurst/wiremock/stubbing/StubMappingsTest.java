@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2026 Thomas Akehurst
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.tomakehurst.wiremock.stubbing;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.http.RequestMethod.GET;
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+import com.github.tomakehurst.wiremock.http.Request;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+public class StubMappingsTest {
+
+  @Test
+  public void importsMappingsOneAtATimeByDefault() {
+    StubMappings stubMappings = mock(StubMappings.class, CALLS_REAL_METHODS);
+    StubMapping existing = get("/existing").build();
+    StubMapping updated = get("/updated").build();
+    StubMapping added = get("/added").build();
+    StubMapping removed = get("/removed").build();
+
+    stubMappings.importMappings(
+        new StubImportBatch(
+            List.of(added),
+            List.of(new StubImportBatch.Edit(existing, updated)),
+            List.of(removed)));
+
+    InOrder inOrder = inOrder(stubMappings);
+    inOrder.verify(stubMappings).editMapping(updated);
+    inOrder.verify(stubMappings).addMapping(added);
+    inOrder.verify(stubMappings).removeMapping(removed);
+  }
+
+  @Test
+  public void remembersNoMatchDecisionsByDefault() {
+    StubMappings stubMappings = mock(StubMappings.class, CALLS_REAL_METHODS);
+    MatchDecisionCache cache = stubMappings.getMatchDecisionCache();
+    Request request = mockRequest().method(GET).url("/things");
+    StubMapping stub = get("/things").build();
+
+    cache.lookup(request, () -> Stream.of(stub)).remember(stub);
+
+    assertThat(cache.lookup(request, () -> Stream.of(stub)).getCached(), is(nullValue()));
+    assertThat(cache.getHitCount(), is(0L));
+    assertThat(cache.getMissCount(), is(0L));
+  }
+}
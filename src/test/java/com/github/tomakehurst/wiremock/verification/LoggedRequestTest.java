@@ -17,24 +17,34 @@ package com.github.tomakehurst.wiremock.verification;
 
 import static com.github.tomakehurst.wiremock.http.HttpHeader.httpHeader;
 import static com.github.tomakehurst.wiremock.http.RequestMethod.POST;
+import static com.github.tomakehurst.wiremock.matching.MockMultipart.mockPart;
+import static com.github.tomakehurst.wiremock.matching.MockRequest.mockRequest;
 import static com.github.tomakehurst.wiremock.testsupport.MockRequestBuilder.aRequest;
 import static com.github.tomakehurst.wiremock.verification.LoggedRequest.createFrom;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.tomakehurst.wiremock.common.Dates;
 import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.extension.requestfilter.RequestWrapper;
 import com.github.tomakehurst.wiremock.http.Cookie;
+import com.github.tomakehurst.wiremock.http.FormParameter;
 import com.github.tomakehurst.wiremock.http.HttpHeaders;
+import com.github.tomakehurst.wiremock.http.ParsedBody;
+import com.github.tomakehurst.wiremock.http.Request;
 import com.github.tomakehurst.wiremock.http.RequestMethod;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
@@ -98,6 +108,92 @@ public class LoggedRequestTest {
           + "\",\n"
           + "    }";
 
+  @Test
+  public void readsPartsFromTheOriginalRequestOnlyWhenNeededAndOnlyOnce() {
+    AtomicInteger reads = new AtomicInteger();
+    Request request =
+        new RequestWrapper(mockRequest().url("/upload").part(mockPart().name("file").body("x"))) {
+          @Override
+          public Collection<Request.Part> getParts() {
+            reads.incrementAndGet();
+            return super.getParts();
+          }
+        };
+
+    LoggedRequest loggedRequest = createFrom(request);
+    assertThat(reads.get(), is(0));
+
+    loggedRequest.materialise();
+    assertThat(loggedRequest.getPart("file").getBody().asString(), is("x"));
+    assertThat(loggedRequest.isMultipart(), is(true));
+    assertThat(reads.get(), is(1));
+  }
+
+  @Test
+  public void readsHeadersCookiesFormParametersAndBodyFromTheOriginalRequestOnlyWhenNeeded() {
+    AtomicInteger reads = new AtomicInteger();
+    Request request =
+        new RequestWrapper(
+            mockRequest()
+                .url("/things")
+                .header("X-Thing", "1")
+                .cookie("session", "abc")
+                .formParameters(Map.of("a", new FormParameter("a", List.of("b"))))
+                .body("a=b")) {
+          @Override
+          public HttpHeaders getHeaders() {
+            reads.incrementAndGet();
+            return super.getHeaders();
+          }
+
+          @Override
+          public Map<String, Cookie> getCookies() {
+            reads.incrementAndGet();
+            return super.getCookies();
+          }
+
+          @Override
+          public Map<String, FormParameter> formParameters() {
+            reads.incrementAndGet();
+            return super.formParameters();
+          }
+
+          @Override
+          public byte[] getBody() {
+            reads.incrementAndGet();
+            return super.getBody();
+          }
+        };
+
+    LoggedRequest loggedRequest = createFrom(request);
+    assertThat(reads.get(), is(0));
+
+    assertThat(loggedRequest.getHeader("X-Thing"), is("1"));
+    assertThat(reads.get(), is(1));
+
+    loggedRequest.materialise();
+    assertThat(reads.get(), is(4));
+    assertThat(loggedRequest.getCookies().get("session").firstValue(), is("abc"));
+    assertThat(loggedRequest.formParameter("a").firstValue(), is("b"));
+    assertThat(loggedRequest.getBodyAsString(), is("a=b"));
+    assertThat(loggedRequest.getHeader("X-Thing"), is("1"));
+    assertThat(reads.get(), is(4));
+  }
+
+  @Test
+  public void sharesTheParsedBodyOnlyUntilJournaled() {
+    LoggedRequest loggedRequest = createFrom(mockRequest().body("{\"things\": [1, 2, 3]}"));
+    ParsedBody parsedBody = loggedRequest.getParsedBody();
+    parsedBody.asJsonTree();
+
+    assertThat(loggedRequest.getParsedBody(), sameInstance(parsedBody));
+
+    loggedRequest.materialise();
+    assertThat(loggedRequest.getParsedBody(), not(sameInstance(parsedBody)));
+    assertThat(loggedRequest.getParsedBody(), not(sameInstance(loggedRequest.getParsedBody())));
+    assertThat(loggedRequest.getParsedBody().asJsonTree().get("things").size(), is(3));
+  }
+
   @Test
   public void jsonRepresentation() throws Exception {
     HttpHeaders headers = new HttpHeaders(httpHeader("Accept-Language", "en-us,en;q=0.5"));
@@ -119,7 +215,8 @@ public class LoggedRequestTest {
             REQUEST_BODY_AS_BASE64,
             null,
             null,
-            "HTTP/1.1");
+            "HTTP/1.1",
+            null);
 
     String expectedJson = String.format(JSON_EXAMPLE, loggedDate.getTime());
 
@@ -141,7 +238,8 @@ public class LoggedRequestTest {
             REQUEST_BODY_AS_BASE64,
             null,
             null,
-            "HTTP/1.1");
+            "HTTP/1.1",
+            null);
 
     assertThat(loggedRequest.getBodyAsString(), is(equalTo(REQUEST_BODY)));
   }
@@ -149,7 +247,8 @@ public class LoggedRequestTest {
   static final String JSON_PARAMS_EXAMPLE =
       "{\n"
           + "  \"url\" : \"/sample/path?test-param-1=value1&test-param-2=value2\",\n"
-          + "  \"absoluteUrl\" : \"http://ex.ample/sample/path?test-param-1=value1&test-param-2=value2\",\n"
+          + "  \"absoluteUrl\" :"
+          + " \"http://ex.ample/sample/path?test-param-1=value1&test-param-2=value2\",\n"
           + "  \"method\" : \"GET\",\n"
           + "  \"clientIp\" : \"0.0.0.0\",\n"
           + "  \"browserProxyRequest\" : true,\n"
@@ -182,7 +281,8 @@ public class LoggedRequestTest {
             null,
             null,
             null,
-            "HTTP/1.1");
+            "HTTP/1.1",
+            null);
 
     Map<String, Object> reqMap = Json.objectToMap(req);
 